@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks deleting many persons selected by index and undoing the deletion, including the update of the filtered
+ * and sorted person list shown to the user.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DeleteCommandBenchmark {
+
+    private static final int SELECTED_COUNT = 500;
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    private Model model;
+    private List<Index> selectedIndices;
+
+    /**
+     * Creates a model holding the generated persons, and the indices of persons spread over the list.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SyntheticDataUtil.getSyntheticAddressBook(personCount), new UserPrefs(),
+                new CommandHistory());
+        selectedIndices = new ArrayList<>();
+        for (int i = 0; i < personCount; i += Math.max(1, personCount / SELECTED_COUNT)) {
+            selectedIndices.add(Index.fromZeroBased(i));
+        }
+    }
+
+    /**
+     * Deletes the selected persons and adds them back by undoing, so that the list keeps its size.
+     */
+    @Benchmark
+    public int deleteAndUndo() throws CommandException {
+        DeleteCommand deleteCommand = new DeleteCommand(selectedIndices);
+        deleteCommand.execute(model);
+        deleteCommand.executeConfirmed(model);
+        deleteCommand.undo(model);
+        return model.getFilteredPersonList().size();
+    }
+}
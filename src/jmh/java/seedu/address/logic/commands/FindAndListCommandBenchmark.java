@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks finding persons by name, exactly and fuzzily, and sorting them by upcoming birthday, including the
+ * update of the filtered and sorted person list shown to the user.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindAndListCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    private Model model;
+    private FindCommand findCommand;
+    private FindCommand fuzzyFindCommand;
+    private ListCommand sortAscendingCommand;
+    private ListCommand sortDescendingCommand;
+
+    /**
+     * Creates a model holding the generated persons, and the commands to execute on it.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        model = new ModelManager(SyntheticDataUtil.getSyntheticAddressBook(personCount), new UserPrefs(),
+                new CommandHistory());
+        findCommand = new FindCommandParser().parse(SyntheticDataUtil.FIRST_NAMES[0] + " "
+                + SyntheticDataUtil.LAST_NAMES[1]);
+        fuzzyFindCommand = new FindCommandParser().parse(" f/Charlote Olivero");
+        sortAscendingCommand = new ListCommand(ListCommand.SortOrder.ASCENDING);
+        sortDescendingCommand = new ListCommand(ListCommand.SortOrder.DESCENDING);
+    }
+
+    /**
+     * Finds the persons with either of two names, which match a few persons each.
+     */
+    @Benchmark
+    public int find() {
+        findCommand.execute(model);
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Finds the persons with names spelt like two misspelt names, which are similar to many persons.
+     */
+    @Benchmark
+    public int fuzzyFind() {
+        fuzzyFindCommand.execute(model);
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Sorts by upcoming birthday in both orders, so that each sort starts from a list that is not already sorted.
+     */
+    @Benchmark
+    public int sortByBirthday() {
+        sortAscendingCommand.execute(model);
+        sortDescendingCommand.execute(model);
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Finds the ten persons with the next birthdays, without listing them.
+     */
+    @Benchmark
+    public int upcomingBirthdays() {
+        return model.getAddressBook().getUpcomingBirthdays(LocalDate.now(), 10).size();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing a typical input for each command word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressBookParserBenchmark {
+
+    private static final Map<String, String> TYPICAL_INPUTS = Map.ofEntries(
+            Map.entry(AddCommand.COMMAND_WORD, "add n/John Doe p/98765432 e/johnd@example.com "
+                    + "a/311, Clementi Ave 2, #02-25 b/01-01-1990 r/Brother nn/Johnny no/Likes tea "
+                    + "t/friends t/owesMoney"),
+            Map.entry(EditCommand.COMMAND_WORD, "edit 1 p/91234567 e/johndoe@example.com t/colleagues"),
+            Map.entry(DeleteCommand.COMMAND_WORD, "delete 3"),
+            Map.entry(ClearCommand.COMMAND_WORD, "clear"),
+            Map.entry(FindCommand.COMMAND_WORD, "find alex bernice charlotte"),
+            Map.entry(ListCommand.COMMAND_WORD, "list s/asc"),
+            Map.entry(ExitCommand.COMMAND_WORD, "exit"),
+            Map.entry(HelpCommand.COMMAND_WORD, "help"),
+            Map.entry(UndoCommand.COMMAND_WORD, "undo"),
+            Map.entry(RedoCommand.COMMAND_WORD, "redo"));
+
+    @Param({"add", "edit", "delete", "clear", "find", "list", "exit", "help", "undo", "redo"})
+    public String commandWord;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String input;
+
+    /**
+     * Looks up the input to parse, and checks that it parses.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        input = TYPICAL_INPUTS.get(commandWord);
+        if (input == null) {
+            throw new IllegalArgumentException("No typical input for command word: " + commandWord);
+        }
+        parser.parseCommand(input);
+    }
+
+    @Benchmark
+    public Command parse() throws ParseException {
+        return parser.parseCommand(input);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NICKNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks tokenizing the arguments of {@code add} and {@code edit} commands with every person field prefix,
+ * from a short command to long ones with many tags and long notes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    private static final String LONG_NOTES = "no/Met at the 2019 family reunion in Penang, prefers calls after 6pm, "
+            + "allergic to peanuts and shellfish, birthday gift ideas: books on gardening, tea, photo albums ";
+    private static final String MANY_TAGS = "t/family t/cousins t/penang t/reunion t/gardening t/tea t/photos "
+            + "t/choir t/volunteers t/neighbours ";
+
+    private static final Map<String, String> ARGUMENTS = Map.of(
+            "shortEdit", " 1 p/91234567",
+            "add", " n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 b/01-01-1990 "
+                    + "r/Brother nn/Johnny no/Likes tea t/friends t/owesMoney",
+            "longAdd", " n/Tan Mei Ling Veronica p/98765432 e/veronica.tan.meiling@example.com "
+                    + "a/Blk 123 Lorong 3 Serangoon Gardens, #12-345, Singapore 556123 b/29-02-1964 "
+                    + "r/Second Cousin Once Removed nn/Auntie Ronnie " + LONG_NOTES + MANY_TAGS,
+            "longEdit", " 12 a/Blk 456 Jurong West Avenue 1, #03-21, Singapore 640456 r/Grand Aunt "
+                    + LONG_NOTES + LONG_NOTES + MANY_TAGS + MANY_TAGS);
+
+    @Param({"shortEdit", "add", "longAdd", "longEdit"})
+    public String arguments;
+
+    private String argsString;
+
+    @Setup
+    public void setUp() {
+        argsString = ARGUMENTS.get(arguments);
+    }
+
+    /**
+     * Tokenizes the arguments with the prefixes that {@code AddCommandParser} and {@code EditCommandParser} use.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(argsString, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_BIRTHDAY, PREFIX_RELATIONSHIP, PREFIX_NICKNAME, PREFIX_NOTES, PREFIX_TAG);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures the heap retained per person, by the persons alone and by an address book holding them with its indexes.
+ * The sizes are reported as the secondary results {@code personBytes} and {@code addressBookBytes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class PersonHeapBenchmark {
+
+    private static final int GC_ROUNDS = 5;
+
+    @Param({"100000"})
+    public int personCount;
+
+    /**
+     * The heap retained per person in the last measurement, in bytes.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedBytes {
+        public long personBytes;
+        public long addressBookBytes;
+    }
+
+    @Benchmark
+    public void build(RetainedBytes retainedBytes) {
+        long before = getUsedHeap();
+        Person[] persons = SyntheticDataUtil.getSyntheticPersons(personCount);
+        long afterPersons = getUsedHeap();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(persons));
+        long afterAddressBook = getUsedHeap();
+
+        retainedBytes.personBytes = (afterPersons - before) / personCount;
+        retainedBytes.addressBookBytes = (afterAddressBook - before) / personCount;
+        Reference.reachabilityFence(persons);
+        Reference.reachabilityFence(addressBook);
+    }
+
+    private static long getUsedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            memory.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
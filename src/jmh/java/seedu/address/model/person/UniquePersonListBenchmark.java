@@ -0,0 +1,117 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks adding, looking up, replacing and removing persons in a {@code UniquePersonList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniquePersonListBenchmark {
+
+    private static final int SELECTED_COUNT = 500;
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    private Person[] persons;
+    private UniquePersonList personList;
+    private Person presentPerson;
+    private Person absentPerson;
+    private Person lastPerson;
+    private Person editedLastPerson;
+    private List<Person> selectedPersons;
+
+    /**
+     * Generates the persons and a list holding all but the last of them.
+     */
+    @Setup
+    public void setUp() {
+        Person[] generated = SyntheticDataUtil.getSyntheticPersons(personCount + 1);
+        persons = new Person[personCount];
+        System.arraycopy(generated, 0, persons, 0, personCount);
+        personList = new UniquePersonList();
+        for (Person person : persons) {
+            personList.add(person);
+        }
+        presentPerson = persons[personCount / 2];
+        absentPerson = generated[personCount];
+        lastPerson = persons[personCount - 1];
+        editedLastPerson = new Person(lastPerson.getName(), absentPerson.getPhone(), absentPerson.getEmail(),
+                absentPerson.getAddress(), absentPerson.getBirthday(), absentPerson.getRelationship(),
+                absentPerson.getNickname(), absentPerson.getNotes(), absentPerson.getTags());
+        selectedPersons = new ArrayList<>();
+        for (int i = 0; i < personCount; i += Math.max(1, personCount / SELECTED_COUNT)) {
+            selectedPersons.add(persons[i]);
+        }
+    }
+
+    /**
+     * Adds every person to an empty list, as happens when an address book is loaded.
+     */
+    @Benchmark
+    public UniquePersonList add() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean containsPresent() {
+        return personList.contains(presentPerson);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean containsAbsent() {
+        return personList.contains(absentPerson);
+    }
+
+    /**
+     * Removes the last person and adds it back, so that each removal looks the person up at the end of the list.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void removeLast() {
+        personList.remove(lastPerson);
+        personList.add(lastPerson);
+    }
+
+    /**
+     * Replaces the last person with an edited copy and back.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void setLastPerson() {
+        personList.setPerson(lastPerson, editedLastPerson);
+        personList.setPerson(editedLastPerson, lastPerson);
+    }
+
+    /**
+     * Removes persons spread over the list at once, as deleting the selected persons does, and adds them back.
+     */
+    @Benchmark
+    public void removeSelected() {
+        personList.removeAll(selectedPersons);
+        for (Person person : selectedPersons) {
+            personList.add(person);
+        }
+    }
+}
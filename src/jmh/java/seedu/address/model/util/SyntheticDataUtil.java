@@ -0,0 +1,121 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nickname;
+import seedu.address.model.person.Notes;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Relationship;
+
+/**
+ * Contains utility methods for populating {@code AddressBook} with any number of generated persons, for use in
+ * benchmarks. The same {@code count} always generates the same persons, so results are comparable across runs.
+ */
+public class SyntheticDataUtil extends SampleDataUtil {
+
+    public static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Aisha", "Benjamin", "Chloe", "Daniel",
+        "Elena", "Farhan", "Grace", "Hui Min", "Isaac", "Jasmine", "Kumar", "Li Wei", "Mei Ling", "Nathan",
+        "Olivia", "Priya", "Qing", "Rachel", "Siti", "Thomas", "Uma", "Vincent", "Wen Jie", "Xavier",
+        "Yasmin", "Zhi Hao"
+    };
+    public static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Lee", "Ng",
+        "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Sim",
+        "Rahman", "Nair", "Pillai", "Abdullah", "Fernandez", "Santos", "Cheong", "Ho", "Low", "Seah",
+        "Quek", "Foo"
+    };
+
+    private static final String[] STREETS = {
+        "Geylang Street", "Lorong 3 Serangoon Gardens", "Ang Mo Kio Street", "Tampines Street",
+        "Aljunied Street", "Jurong West Avenue", "Bedok North Road", "Woodlands Drive", "Clementi Avenue"
+    };
+    private static final String[] TAGS = {
+        "friends", "colleagues", "neighbours", "family", "classmates", "gym", "choir", "volunteers"
+    };
+    private static final String[] RELATIONSHIPS = {
+        "Brother", "Sister", "Cousin", "Old Classmate", "Tutor", "Best-Friend", "Colleague", "Neighbour"
+    };
+    private static final String[] NOTES = {
+        "Likes photography", "Allergic to peanuts", "Prefers email contact", "Birthday gift idea: books",
+        "Vegetarian", "Call after 6pm"
+    };
+
+    private static final long SEED = 2103;
+    private static final DateTimeFormatter BIRTHDAY_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final LocalDate EARLIEST_BIRTHDAY = LocalDate.of(1950, 1, 1);
+    private static final int BIRTHDAY_RANGE_IN_DAYS = 365 * 55;
+
+    /**
+     * Returns {@code count} generated persons with distinct names.
+     */
+    public static Person[] getSyntheticPersons(int count) {
+        Random random = new Random(SEED);
+        Person[] persons = new Person[count];
+        for (int i = 0; i < count; i++) {
+            persons[i] = getSyntheticPerson(i, random);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book holding {@code count} generated persons.
+     */
+    public static AddressBook getSyntheticAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : getSyntheticPersons(count)) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the name of the {@code index}-th generated person.
+     * Names cycle through every combination of first and last name, and are numbered after the first cycle.
+     */
+    public static String getSyntheticName(int index) {
+        String firstName = FIRST_NAMES[index % FIRST_NAMES.length];
+        String lastName = LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length];
+        int cycle = index / (FIRST_NAMES.length * LAST_NAMES.length);
+        return firstName + " " + lastName + (cycle == 0 ? "" : " " + cycle);
+    }
+
+    private static Person getSyntheticPerson(int index, Random random) {
+        String name = getSyntheticName(index);
+        String emailLocalPart = name.toLowerCase().replace(' ', '.');
+        LocalDate birthday = EARLIEST_BIRTHDAY.plusDays(random.nextInt(BIRTHDAY_RANGE_IN_DAYS));
+
+        return new Person(new Name(name),
+                new Phone(String.format("%08d", 80000000 + index)),
+                new Email(emailLocalPart + "@example.com"),
+                new Address("Blk " + (1 + random.nextInt(999)) + " " + pick(STREETS, random) + " "
+                        + (1 + random.nextInt(99)) + ", #" + String.format("%02d-%02d",
+                        1 + random.nextInt(20), 1 + random.nextInt(99))),
+                Optional.of(new Birthday(birthday.format(BIRTHDAY_FORMATTER))),
+                random.nextInt(4) == 0 ? Optional.empty() : Optional.of(new Relationship(pick(RELATIONSHIPS, random))),
+                random.nextInt(3) == 0 ? Optional.of(new Nickname(name.split(" ")[0])) : Optional.empty(),
+                random.nextInt(3) == 0 ? Optional.of(new Notes(pick(NOTES, random))) : Optional.empty(),
+                getTagSet(pickTags(random)));
+    }
+
+    private static String[] pickTags(Random random) {
+        String[] tags = new String[random.nextInt(3)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = pick(TAGS, random);
+        }
+        return tags;
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks loading and saving a whole address book in each storage format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    @Param({"JSON", "BINARY"})
+    public StorageFormat format;
+
+    private Path folder;
+    private Path loadFilePath;
+    private Path copiedFilePath;
+    private Path saveFilePath;
+    private AddressBookStorage storage;
+    private AddressBook addressBook;
+
+    /**
+     * Writes the generated address book to a temporary file to be loaded, and a copy of it.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("addressbook-benchmark");
+        loadFilePath = folder.resolve("load");
+        saveFilePath = folder.resolve("save");
+        // Saves a whole snapshot each time, without the journal used for JSON by the app.
+        storage = format == StorageFormat.BINARY
+                ? new BinaryAddressBookStorage(loadFilePath)
+                : new JsonAddressBookStorage(loadFilePath);
+        addressBook = SyntheticDataUtil.getSyntheticAddressBook(personCount);
+        storage.saveAddressBook(addressBook, loadFilePath);
+        // A copy has no recorded checksum, so all of its values are validated on loading.
+        copiedFilePath = folder.resolve("copy");
+        Files.copy(loadFilePath, copiedFilePath);
+    }
+
+    /**
+     * Deletes the temporary files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> load() throws DataLoadingException {
+        return storage.readAddressBook(loadFilePath);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> loadWithValidation() throws DataLoadingException {
+        return storage.readAddressBook(copiedFilePath);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook, saveFilePath);
+    }
+}
@@ -9,10 +9,12 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandTracker;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -24,14 +26,16 @@ import seedu.address.model.ReadOnlyCommandHistory;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatConverter;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AppendOnlyCommandHistoryStorage;
 import seedu.address.storage.CommandHistoryStorage;
-import seedu.address.storage.JsonAddressBookStorage;
-import seedu.address.storage.JsonCommandHistoryStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.UndoHistoryStorage;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -50,6 +54,11 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // whether the address book in the model was read from its data file, rather than a sample or empty one
+    private boolean isAddressBookRead;
+    // whether the address book data file was converted from another format at start-up, so its undo history is stale
+    private boolean isAddressBookConverted;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -58,21 +67,56 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        initUndoHistory(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        StorageFormat addressBookFormat = userPrefs.getAddressBookStorageFormat();
+        convertAddressBook(userPrefs, userPrefsStorage);
+        AddressBookStorage addressBookStorage = AddressBookFormatConverter.createStorage(
+                addressBookFormat.getDataFilePath(userPrefs.getAddressBookFilePath()), addressBookFormat);
         CommandHistoryStorage commandHistoryStorage =
-                new JsonCommandHistoryStorage(userPrefs.getCommandHistoryFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+                new AppendOnlyCommandHistoryStorage(userPrefs.getCommandHistoryFilePath());
+        storage = new WriteBehindStorage(
+                new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage));
 
         model = initModelManager(storage, userPrefs);
+        restoreUndoHistory(UndoHistoryStorage.getUndoHistoryFilePath(addressBookStorage.getAddressBookFilePath()));
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Converts the address book into the format in {@code userPrefs} if it was last saved in another format,
+     * so that switching formats in the user prefs keeps the data, and records that format as the one the address
+     * book is saved in from now on.
+     * The address book is left in the format it is in if it cannot be converted.
+     */
+    private void convertAddressBook(UserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        StorageFormat format = userPrefs.getAddressBookStorageFormat();
+        try {
+            isAddressBookConverted = AddressBookFormatConverter.convertToFormat(addressBookFilePath,
+                    userPrefs.getAddressBookLastSavedFormat(), format);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Address book data file for " + addressBookFilePath + " could not be converted to "
+                    + format + ": " + StringUtil.getDetails(e));
+        }
+        if (userPrefs.getAddressBookLastSavedFormat().equals(Optional.of(format))) {
+            return;
+        }
+
+        userPrefs.setAddressBookLastSavedFormat(format);
+        // written now, so that the data file is not converted again if the app is closed before the prefs are saved
+        try {
+            userPrefsStorage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book, command history,
      * and {@code userPrefs}. <br>
@@ -97,6 +141,7 @@ public class MainApp extends Application {
                 logger.info("Creating a new address book data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
+            isAddressBookRead = addressBookOptional.isPresent();
             return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
             logger.warning("Address book data file at " + storage.getAddressBookFilePath()
@@ -119,10 +164,61 @@ public class MainApp extends Application {
         }
     }
 
+    /**
+     * Restores the commands to undo and redo from the undo history at {@code undoHistoryFilePath}, and keeps them
+     * there from now on.
+     * There will be no commands to undo or redo if the undo history cannot be read, or if the address book was not
+     * read from the data file that the undo history accompanies. A data file just converted from another format has
+     * replaced the one that its undo history was kept for, so that undo history is discarded and written afresh.
+     */
+    private void restoreUndoHistory(Path undoHistoryFilePath) {
+        logger.info("Using undo history data file : " + undoHistoryFilePath);
+        UndoHistoryStorage undoHistoryStorage = new UndoHistoryStorage(undoHistoryFilePath);
+        if (!isAddressBookRead) {
+            logger.info("Address book was not read from its data file. Will be starting with an empty undo history.");
+            CommandTracker.getInstance().startIn(undoHistoryStorage);
+            return;
+        }
+        if (isAddressBookConverted) {
+            logger.info("Address book data file was converted from another format."
+                    + " Will be starting with an empty undo history.");
+            CommandTracker.getInstance().startIn(undoHistoryStorage);
+            // written now, so that the stale undo history is not restored if the app is closed before the next save
+            try {
+                CommandTracker.getInstance().save();
+            } catch (IOException e) {
+                logger.warning("Undo history data file at " + undoHistoryFilePath + " could not be cleared: "
+                        + StringUtil.getDetails(e));
+            }
+            return;
+        }
+
+        try {
+            CommandTracker.getInstance().restoreFrom(undoHistoryStorage);
+        } catch (DataLoadingException e) {
+            logger.warning("Undo history data file at " + undoHistoryFilePath
+                    + " could not be loaded. Will be starting with an empty undo history.");
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    /**
+     * Limits the number of commands kept to undo to the one in {@code config}, or keeps the default limit if that
+     * one is not positive.
+     */
+    private void initUndoHistory(Config config) {
+        int undoHistoryLimit = config.getUndoHistoryLimit();
+        if (undoHistoryLimit <= 0) {
+            logger.warning("Undo history limit " + undoHistoryLimit + " is not positive. Using the default limit of "
+                    + CommandTracker.DEFAULT_CAPACITY + " instead.");
+            return;
+        }
+        CommandTracker.getInstance().setCapacity(undoHistoryLimit);
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -208,5 +304,11 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            CommandTracker.getInstance().saveTo(storage);
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
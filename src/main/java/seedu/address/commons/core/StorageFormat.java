@@ -0,0 +1,32 @@
+package seedu.address.commons.core;
+
+import java.nio.file.Path;
+
+/**
+ * The on-disk formats in which the address book data can be stored.
+ */
+public enum StorageFormat {
+    /** Human-readable JSON snapshot, with an append-only journal of recent changes. */
+    JSON,
+    /** Compact binary snapshot that is much faster to load and save for large address books. */
+    BINARY;
+
+    public static final String JSON_FILE_EXTENSION = ".json";
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    /**
+     * Returns the path of the data file in this format for the address book at {@code addressBookFilePath}.
+     * A binary data file has the {@code .json} extension of the path replaced with {@code .bin}, so that the data
+     * in one format never overwrites the data in the other.
+     */
+    public Path getDataFilePath(Path addressBookFilePath) {
+        if (this == JSON) {
+            return addressBookFilePath;
+        }
+        String fileName = addressBookFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return addressBookFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+}
@@ -1,17 +1,30 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private static final String CHARSET = "UTF-8";
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +85,118 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns the sibling file that {@link #writeToFile(Path, byte[])} writes to before moving it into place as
+     * {@code file}. It is only left behind if a save was interrupted.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, byte[])
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes given bytes to a file, creating the file and its missing parent directories if needed.
+     * The bytes are written to a temp file that is forced to disk and then atomically moved into place,
+     * so a crash part-way through leaves either the old or the new content in {@code file}, never a mix.
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = getTempFilePath(file);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        moveAtomically(tempFile, file);
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing it, in a single step where the file system supports it,
+     * and makes the move durable.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.fine("Atomic move not supported, falling back to a plain move: " + e.getMessage());
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceParentDir(target);
+    }
+
+    /**
+     * Deletes {@code file} if it exists, and makes the deletion durable.
+     */
+    public static void deleteDurably(Path file) throws IOException {
+        if (Files.deleteIfExists(file)) {
+            forceParentDir(file);
+        }
+    }
+
+    /**
+     * Forces changes to the entries of the directory containing {@code file} to disk.
+     * This is best effort, as not every platform allows a directory to be opened.
+     */
+    private static void forceParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        if (parentDir == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.finer("Could not force directory " + parentDir + " to disk: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file and forces it to disk.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the complete lines of a file that is only ever appended to with {@link #appendToFile(Path, String)}.
+     * A last line that is not terminated by a line separator was torn by a crash in the middle of an append;
+     * it is left out and truncated from the file, so that later appends start on a fresh line.
+     * Assumes file exists.
+     */
+    public static List<String> readCompleteLines(Path file) throws IOException {
+        String content = readFromFile(file);
+        int end = content.lastIndexOf('\n') + 1;
+        if (end < content.length()) {
+            logger.warning("Discarding incomplete last line of " + file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(content.substring(0, end).getBytes(CHARSET).length);
+                channel.force(false);
+            }
+        }
+
+        List<String> lines = new ArrayList<>();
+        for (String line : content.substring(0, end).split("\n")) {
+            lines.add(line.endsWith("\r") ? line.substring(0, line.length() - 1) : line);
+        }
+        return lines;
     }
 
 }
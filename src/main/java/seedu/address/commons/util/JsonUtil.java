@@ -11,6 +11,7 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -92,6 +93,19 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a streaming {@code JsonParser} over the given file, configured like the rest of this class.
+     * Values can be bound one at a time with {@link JsonParser#readValueAs(Class)}, so that the whole file never
+     * needs to be held in memory at once. The caller is responsible for closing the parser.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(filePath.toFile());
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +125,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a compact, single-line JSON data string representation.
+     * Suitable for line-oriented files where each line holds one JSON record.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without any line breaks
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,18 +1,41 @@
 package seedu.address.logic;
 
-import java.util.Stack;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.RestoredCommand;
 import seedu.address.logic.commands.UndoableCommand;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StoredPersonChange;
+import seedu.address.storage.UndoHistoryStorage;
 
 /**
  * This class tracks the commands that can be redone and undone.
+ * At most {@link #getCapacity()} commands are kept for each, and the oldest ones are dropped to make room for newer
+ * ones, so that a long session does not keep every command it ran.
+ * The limit counts commands, not the memory they take: a {@link seedu.address.logic.commands.ClearCommand} counts as
+ * one command but keeps every person it cleared until it is undone or dropped, so clears are excluded from the bound.
+ * The commands can also be kept in an {@link UndoHistoryStorage}, so that they can be undone and redone in later
+ * sessions.
  */
 public class CommandTracker {
+    public static final int DEFAULT_CAPACITY = 100;
+    public static final String MESSAGE_CAPACITY_CONSTRAINTS = "The undo history limit must be positive.";
+
     private static final CommandTracker instance = new CommandTracker();
-    private final Stack<UndoableCommand> undoStack = new Stack<>();
-    private final Stack<UndoableCommand> redoStack = new Stack<>();
+    // the most recent command is at the head of each
+    private final Deque<UndoableCommand> undoStack = new ArrayDeque<>();
+    private final Deque<UndoableCommand> redoStack = new ArrayDeque<>();
+    private int capacity = DEFAULT_CAPACITY;
     private boolean wasUndoCalled = false;
+    // null if the commands are not kept on the hard disk
+    private UndoHistoryStorage storage;
 
     private CommandTracker() {}
 
@@ -25,6 +48,94 @@ public class CommandTracker {
         return instance;
     }
 
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the number of commands kept to undo, and to redo, dropping the oldest ones beyond it.
+     *
+     * @param capacity The number of commands kept, which must be positive.
+     */
+    public void setCapacity(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CAPACITY_CONSTRAINTS);
+        this.capacity = capacity;
+        trim(undoStack);
+        trim(redoStack);
+        if (storage != null) {
+            storage.setCapacity(capacity);
+        }
+    }
+
+    /**
+     * Replaces the commands to undo and redo with those that {@code storage} kept from earlier sessions, and keeps
+     * every later change to them in {@code storage}. The changes made by the restored commands are only loaded from
+     * {@code storage} when they are undone or redone.
+     *
+     * @throws DataLoadingException if the commands could not be read from {@code storage}, in which case there are
+     *     no commands to undo or redo.
+     */
+    public void restoreFrom(UndoHistoryStorage storage) throws DataLoadingException {
+        requireNonNull(storage);
+        this.storage = storage;
+        undoStack.clear();
+        redoStack.clear();
+        wasUndoCalled = false;
+
+        storage.setCapacity(capacity);
+        storage.read();
+        for (StoredPersonChange change : storage.getUndoableChanges()) {
+            undoStack.addLast(new RestoredCommand(change));
+        }
+        for (StoredPersonChange change : storage.getRedoableChanges()) {
+            redoStack.addLast(new RestoredCommand(change));
+        }
+    }
+
+    /**
+     * Clears the commands to undo and redo, discarding those that {@code storage} kept from earlier sessions, and
+     * keeps every later change to them in {@code storage}. This is for an address book that was not read from the
+     * data file that {@code storage} accompanies, which the commands kept there may not match.
+     */
+    public void startIn(UndoHistoryStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        storage.setCapacity(capacity);
+        clear();
+    }
+
+    /**
+     * Stops keeping the commands to undo and redo on the hard disk.
+     */
+    public void detachStorage() {
+        storage = null;
+    }
+
+    /**
+     * Writes the changes to the commands to undo and redo since the last save to the hard disk, if they are kept
+     * there.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void save() throws IOException {
+        if (storage != null) {
+            storage.save();
+        }
+    }
+
+    /**
+     * Saves the changes to the commands to undo and redo since the last save through {@code storage}, after the
+     * address book data passed to it before, if they are kept on the hard disk.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void saveTo(Storage storage) throws IOException {
+        requireNonNull(storage);
+        if (this.storage != null) {
+            storage.saveUndoHistory(this.storage);
+        }
+    }
+
     /**
      * Pushes a new command to the undo stack.
      * Clears the redo stack only if the last action was an undo, and the new command is not a redo.
@@ -33,10 +144,18 @@ public class CommandTracker {
      */
     public void push(Command command) {
         if (command instanceof UndoableCommand) {
-            undoStack.push((UndoableCommand) command);
+            UndoableCommand undoableCommand = (UndoableCommand) command;
+            undoStack.push(undoableCommand);
+            trim(undoStack);
+            if (storage != null) {
+                storage.push(undoableCommand.getChange());
+            }
 
-            if (!wasUndoCalled) {
+            if (!wasUndoCalled && !redoStack.isEmpty()) {
                 redoStack.clear();
+                if (storage != null) {
+                    storage.clearRedo();
+                }
             }
 
             wasUndoCalled = false;
@@ -71,9 +190,16 @@ public class CommandTracker {
         if (canUndo()) {
             UndoableCommand cmd = undoStack.pop();
             if (!redoStack.isEmpty() && redoStack.peek() == cmd) {
+                if (storage != null) {
+                    storage.dropUndo();
+                }
                 return null;
             }
             redoStack.push(cmd);
+            trim(redoStack);
+            if (storage != null) {
+                storage.undo();
+            }
             wasUndoCalled = true;
             return cmd;
         }
@@ -90,17 +216,31 @@ public class CommandTracker {
         if (canRedo()) {
             UndoableCommand cmd = redoStack.pop();
             undoStack.push(cmd);
+            trim(undoStack);
+            if (storage != null) {
+                storage.redo();
+            }
             wasUndoCalled = false;
             return cmd;
         }
         return null;
     }
+
+    private void trim(Deque<UndoableCommand> stack) {
+        while (stack.size() > capacity) {
+            stack.removeLast();
+        }
+    }
+
     /**
-     * Clears the undo and redo stacks for test hygiene
+     * Clears the undo and redo stacks, such as for test hygiene or once they no longer match the address book.
      */
     public void clear() {
         undoStack.clear();
         redoStack.clear();
         wasUndoCalled = false;
+        if (storage != null) {
+            storage.clear();
+        }
     }
 }
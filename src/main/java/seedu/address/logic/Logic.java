@@ -35,7 +35,7 @@ public interface Logic {
     ObservableList<Person> getFilteredPersonList();
 
     /**
-     * Returns the user prefs' address book file path.
+     * Returns the path of the address book data file, in the storage format chosen in the user prefs.
      */
     Path getAddressBookFilePath();
 
@@ -56,7 +56,7 @@ public class LogicManager implements Logic {
 
         if (isPendingConfirmation) {
             commandResult = executeConfirmation(commandText);
-            saveState(commandText);
+            saveState(commandText, commandResult.isExit());
             return commandResult;
         }
         Command command = addressBookParser.parseCommand(commandText);
@@ -67,17 +67,27 @@ public class LogicManager implements Logic {
             isPendingConfirmation = true;
         }
 
-        saveState(commandText);
+        saveState(commandText, commandResult.isExit());
 
         return commandResult;
     }
 
-    private void saveState(String commandText) throws CommandException {
+    /**
+     * Saves the address book, command history and undo history, waiting for them to reach the disk if the app is
+     * exiting.
+     */
+    private void saveState(String commandText, boolean isExit) throws CommandException {
         try {
             storage.saveAddressBook(model.getAddressBook());
 
             model.addToCommandHistory(commandText);
             storage.saveCommandHistory(model.getCommandHistory());
+
+            CommandTracker.getInstance().saveTo(storage);
+
+            if (isExit) {
+                storage.flush();
+            }
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -124,7 +134,7 @@ public class LogicManager implements Logic {
 
     @Override
     public Path getAddressBookFilePath() {
-        return model.getAddressBookFilePath();
+        return storage.getAddressBookFilePath();
     }
 
     @Override
@@ -11,11 +11,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Optional;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.CommandTracker;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.PersonChange;
 import seedu.address.model.person.Person;
 
 /**
@@ -51,6 +54,7 @@ public class AddCommand extends UndoableCommand {
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book";
 
     private final Person toAdd;
+    private final PersonChange change;
 
     /**
      * Creates an AddCommand to add the specified {@code Person}
@@ -58,6 +62,7 @@ public class AddCommand extends UndoableCommand {
     public AddCommand(Person person) {
         requireNonNull(person);
         toAdd = person;
+        change = PersonChange.added(person);
     }
 
     @Override
@@ -75,12 +80,17 @@ public class AddCommand extends UndoableCommand {
 
     @Override
     public void undo(Model model) {
-        model.deletePerson(toAdd);
+        change.undo(model);
     }
 
     @Override
     public void redo(Model model) {
-        model.addPerson(toAdd);
+        change.redo(model);
+    }
+
+    @Override
+    public Optional<PersonChange> getChange() {
+        return Optional.of(change);
     }
 
     @Override
@@ -2,23 +2,31 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import seedu.address.model.AddressBook;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.PersonListSnapshot;
 
 /**
  * Clears the address book.
+ * The persons cleared are kept as a snapshot of the person list, which undoing the command puts back as it was.
+ * The snapshot holds the whole person list, yet counts as a single command towards the undo history limit.
+ * It is not kept in the undo history on the hard disk, which would then have to hold the whole address book, so a clear
+ * cannot be undone after a restart, and neither can the commands before it.
  */
-public class ClearCommand extends Command implements ConfirmableCommand {
+public class ClearCommand extends UndoableCommand implements ConfirmableCommand {
 
     public static final String COMMAND_WORD = "clear";
     public static final String MESSAGE_SUCCESS = "Address book has been cleared!";
     public static final String MESSAGE_CONFIRMATION = "Are you sure you want to clear the address book? (y/n)";
     public static final String ABORTION_SUCCESS = "Clear aborted";
+    public static final String MESSAGE_NOT_CLEARED = "The address book has persons added since it was cleared.";
+
+    // the persons removed by the last confirmed execution or redo, kept for undo; null once put back
+    private PersonListSnapshot clearedPersons;
 
     @Override
     public CommandResult execute(Model model) {
         return new CommandResult(MESSAGE_CONFIRMATION, this);
-
     }
 
     @Override
@@ -34,10 +42,29 @@ public class ClearCommand extends Command implements ConfirmableCommand {
      */
     public CommandResult executeConfirmed(Model model) {
         requireNonNull(model);
-        model.setAddressBook(new AddressBook());
+        clearedPersons = model.clearPersons();
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
+    @Override
+    public void undo(Model model) throws CommandException {
+        requireNonNull(model);
+        if (clearedPersons == null) {
+            return;
+        }
+        if (!model.getAddressBook().getPersonList().isEmpty()) {
+            throw new CommandException(MESSAGE_NOT_CLEARED);
+        }
+        model.restorePersons(clearedPersons);
+        clearedPersons = null;
+    }
+
+    @Override
+    public void redo(Model model) {
+        requireNonNull(model);
+        clearedPersons = model.clearPersons();
+    }
+
     public CommandResult executeAborted() {
         return new CommandResult(ABORTION_SUCCESS);
     }
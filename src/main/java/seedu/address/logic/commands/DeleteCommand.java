@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
@@ -10,6 +11,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.PersonChange;
 import seedu.address.model.person.Person;
 
 /**
@@ -36,7 +38,8 @@ public class DeleteCommand extends UndoableCommand implements ConfirmableCommand
 
     private final List<Index> targetIndices;
 
-    private List<Person> personsToDelete;
+    // the deletion made by the last confirmed execution, kept for undo and redo
+    private PersonChange change;
 
     public DeleteCommand(List<Index> targetIndices) {
         this.targetIndices = targetIndices;
@@ -53,7 +56,7 @@ public class DeleteCommand extends UndoableCommand implements ConfirmableCommand
             }
         }
 
-        personsToDelete = targetIndices.stream()
+        List<Person> personsToDelete = targetIndices.stream()
                 .map(targetIndex -> lastShownList.get(targetIndex.getZeroBased()))
                 .toList();
 
@@ -66,25 +69,24 @@ public class DeleteCommand extends UndoableCommand implements ConfirmableCommand
     @Override
     public void undo(Model model) {
         requireNonNull(model);
-        if (personsToDelete != null) {
-            for (Person person : personsToDelete) {
-                if (!model.hasPerson(person)) {
-                    model.addPerson(person);
-                }
-            }
+        if (change != null) {
+            change.undo(model);
         }
     }
 
     @Override
     public void redo(Model model) {
         requireNonNull(model);
-        if (personsToDelete != null) {
-            for (Person person : personsToDelete) {
-                model.deletePerson(person);
-            }
+        if (change != null) {
+            change.redo(model);
         }
     }
 
+    @Override
+    public Optional<PersonChange> getChange() {
+        return Optional.ofNullable(change);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -129,9 +131,8 @@ public class DeleteCommand extends UndoableCommand implements ConfirmableCommand
                 .map(targetIndex -> lastShownList.get(targetIndex.getZeroBased()))
                 .toList();
 
-        for (Person personToDelete : personsToDelete) {
-            model.deletePerson(personToDelete);
-        }
+        model.deletePersons(personsToDelete);
+        change = PersonChange.deleted(personsToDelete);
 
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS,
                 personsToDelete.stream()
@@ -1,15 +1,33 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NICKNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Objects;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.FuzzyNameQuery;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose fields contain the argument keywords.
  * Keyword matching is case insensitive.
+ * Matching persons are looked up in the address book's index of field words rather than by testing every person.
+ * In fuzzy mode, the persons with names or nicknames spelt similarly to the keywords are listed instead, most
+ * similar first.
  */
 public class FindCommand extends Command {
 
@@ -17,23 +35,70 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Other fields can be searched by giving keywords after their prefixes. A person is listed if, for every "
+            + "field searched, a word in that field starts with any of its keywords.\n"
+            + "Parameters: [KEYWORD]... "
+            + "[" + PREFIX_NAME + "NAME_KEYWORDS] "
+            + "[" + PREFIX_PHONE + "PHONE_KEYWORDS] "
+            + "[" + PREFIX_EMAIL + "EMAIL_KEYWORDS] "
+            + "[" + PREFIX_ADDRESS + "ADDRESS_KEYWORDS] "
+            + "[" + PREFIX_NICKNAME + "NICKNAME_KEYWORDS] "
+            + "[" + PREFIX_NOTES + "NOTES_KEYWORDS] "
+            + "[" + PREFIX_TAG + "TAG_KEYWORDS] "
+            + "[" + PREFIX_RELATIONSHIP + "RELATIONSHIP_KEYWORDS]\n"
+            + "Alternatively, to list the persons whose names or nicknames are spelt most similarly to the keywords: "
+            + PREFIX_FUZZY + "KEYWORD [MORE_KEYWORDS]...\n"
+            + "Examples: " + COMMAND_WORD + " alice bob charlie, "
+            + COMMAND_WORD + " " + PREFIX_TAG + "friends " + PREFIX_ADDRESS + "clementi, "
+            + COMMAND_WORD + " " + PREFIX_FUZZY + "alise tann";
 
-    private final NameContainsKeywordsPredicate predicate;
+    // Exactly one of these is set, depending on the mode.
+    private final PersonContainsKeywordsPredicate predicate;
+    private final FuzzyNameQuery fuzzyQuery;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    public FindCommand(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
         this.predicate = predicate;
+        this.fuzzyQuery = null;
+    }
+
+    /**
+     * Creates a FindCommand in fuzzy mode.
+     */
+    public FindCommand(FuzzyNameQuery fuzzyQuery) {
+        requireNonNull(fuzzyQuery);
+        this.predicate = null;
+        this.fuzzyQuery = fuzzyQuery;
+    }
+
+    /**
+     * Creates a FindCommand that searches names only.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(PersonContainsKeywordsPredicate.forNames(predicate.getKeywords()));
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (fuzzyQuery != null) {
+            listSimilarPersons(model);
+        } else {
+            Set<Person> matches = model.getAddressBook().findPersons(predicate);
+            model.updateFilteredPersonList(matches::contains);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Lists the persons matching the fuzzy query, most similar first.
+     * The ranking only orders this result, and is dropped once another command changes the persons listed.
+     */
+    private void listSimilarPersons(Model model) {
+        model.showPersonsInOrder(model.getAddressBook().findSimilarPersons(fuzzyQuery));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -46,13 +111,16 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return Objects.equals(predicate, otherFindCommand.predicate)
+                && Objects.equals(fuzzyQuery, otherFindCommand.fuzzyQuery);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this)
-                .add("predicate", predicate)
-                .toString();
+        ToStringBuilder builder = new ToStringBuilder(this);
+        if (fuzzyQuery != null) {
+            return builder.add("fuzzyQuery", fuzzyQuery).toString();
+        }
+        return builder.add("predicate", predicate).toString();
     }
 }
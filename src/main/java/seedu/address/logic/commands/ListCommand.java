@@ -1,18 +1,22 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.time.LocalDate;
-import java.time.MonthDay;
-import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonKeyComparator;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, optionally sorted by upcoming birthday.
+ * It can also list only the persons with the next birthdays, up to a number of persons or within a number of days,
+ * which are looked up in the address book's index of birthdays rather than by sorting every person.
  */
 public class ListCommand extends Command {
     /**
@@ -27,13 +31,19 @@ public class ListCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Listed all persons";
     public static final String MESSAGE_ASC_SUCCESS = "Listed all persons by upcoming birthdays (soonest first)";
     public static final String MESSAGE_DESC_SUCCESS = "Listed all persons by upcoming birthdays (latest first)";
+    public static final String MESSAGE_UPCOMING_SUCCESS = "Listed the next %1$d birthdays (soonest first)";
+    public static final String MESSAGE_WITHIN_SUCCESS =
+            "Listed %1$d persons with birthdays in the next %2$d days (soonest first)";
     private final SortOrder sortOrder;
+    // at most one of these is positive, to list only the persons with the next birthdays
+    private final int upcomingCount;
+    private final int withinDays;
 
     /**
      * Creates a ListCommand with the default sort order.
      */
     public ListCommand() {
-        this.sortOrder = SortOrder.NONE;
+        this(SortOrder.NONE);
     }
     /**
      * Creates a ListCommand with the specified sort order.
@@ -41,7 +51,29 @@ public class ListCommand extends Command {
      * @param sortOrder
      */
     public ListCommand(SortOrder sortOrder) {
+        this(sortOrder, 0, 0);
+    }
+
+    private ListCommand(SortOrder sortOrder, int upcomingCount, int withinDays) {
         this.sortOrder = sortOrder;
+        this.upcomingCount = upcomingCount;
+        this.withinDays = withinDays;
+    }
+
+    /**
+     * Creates a ListCommand that lists the {@code count} persons with the next birthdays, soonest first.
+     */
+    public static ListCommand ofUpcomingBirthdays(int count) {
+        checkArgument(count > 0, "The number of persons must be positive.");
+        return new ListCommand(SortOrder.NONE, count, 0);
+    }
+
+    /**
+     * Creates a ListCommand that lists the persons with birthdays less than {@code days} days away, soonest first.
+     */
+    public static ListCommand ofBirthdaysWithin(int days) {
+        checkArgument(days > 0, "The number of days must be positive.");
+        return new ListCommand(SortOrder.NONE, 0, days);
     }
     public SortOrder getSortOrder() {
         return this.sortOrder;
@@ -49,38 +81,30 @@ public class ListCommand extends Command {
 
     /**
      * Returns a comparator that compares persons by their upcoming birthday with todays date.
+     * Persons without a birthday come after every person with one, in either order.
      * @param today
      * @param descending
      * @return
      */
     public static Comparator<Person> getBirthdayComparator(LocalDate today, boolean descending) {
-        Comparator<Person> comparator = Comparator.comparing(
-                person -> person.getBirthday()
-                        .map(b -> {
-                            LocalDate birthDate = b.getLocalDate();
-                            if (birthDate == null) {
-                                return Long.MAX_VALUE;
-                            }
-
-                            MonthDay birthdayMonthDay = MonthDay.from(birthDate);
-                            MonthDay currentMonthDay = MonthDay.from(today);
-                            LocalDate nextBirthday = birthdayMonthDay.atYear(today.getYear());
-                            if (birthdayMonthDay.isBefore(currentMonthDay)) {
-                                nextBirthday = nextBirthday.plusYears(1);
-                            }
-
-                            return ChronoUnit.DAYS.between(today, nextBirthday);
-                        })
-                        .orElse(Long.MAX_VALUE),
-                Comparator.naturalOrder()
-        );
-
+        PersonKeyComparator comparator = PersonKeyComparator.byUpcomingBirthday(today);
         return descending ? comparator.reversed() : comparator;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        if (upcomingCount > 0) {
+            List<Person> upcoming = model.getAddressBook().getUpcomingBirthdays(LocalDate.now(), upcomingCount);
+            model.showPersonsInOrder(upcoming);
+            return new CommandResult(String.format(MESSAGE_UPCOMING_SUCCESS, upcoming.size()));
+        }
+        if (withinDays > 0) {
+            List<Person> within = model.getAddressBook().getBirthdaysWithin(LocalDate.now(), withinDays);
+            model.showPersonsInOrder(within);
+            return new CommandResult(String.format(MESSAGE_WITHIN_SUCCESS, within.size(), withinDays));
+        }
+
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         if (this.sortOrder == SortOrder.NONE) {
@@ -98,13 +122,23 @@ public class ListCommand extends Command {
 
     @Override
     public boolean equals(Object other) {
-        return other == this
-                || (other instanceof ListCommand
-                && this.sortOrder == ((ListCommand) other).sortOrder);
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return sortOrder == otherListCommand.sortOrder
+                && upcomingCount == otherListCommand.upcomingCount
+                && withinDays == otherListCommand.withinDays;
     }
 
     @Override
     public int hashCode() {
-        return sortOrder.hashCode();
+        return Objects.hash(sortOrder, upcomingCount, withinDays);
     }
 }
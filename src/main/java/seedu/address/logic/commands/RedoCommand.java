@@ -20,13 +20,20 @@ public class RedoCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        UndoableCommand lastCommand = (UndoableCommand) CommandTracker.getInstance().popRedo();
+        CommandTracker tracker = CommandTracker.getInstance();
+        UndoableCommand lastCommand = (UndoableCommand) tracker.popRedo();
 
         if (lastCommand == null) {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        lastCommand.redo(model);
+        try {
+            lastCommand.redo(model);
+        } catch (CommandException e) {
+            // the commands left cannot be undone or redone safely either
+            tracker.clear();
+            throw e;
+        }
         return new CommandResult(MESSAGE_REDO_SUCCESS);
     }
 
@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.PersonChange;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.storage.StoredPersonChange;
+
+/**
+ * An undoable command of an earlier session, restored from the undo history kept on the hard disk.
+ * The change it made is only loaded when it is first undone or redone.
+ */
+public class RestoredCommand extends UndoableCommand {
+
+    public static final String MESSAGE_UNREADABLE_CHANGE = "The undo history could not be read.";
+
+    public static final String MESSAGE_MISMATCHED_CHANGE = "The undo history no longer matches the address book.";
+
+    private final StoredPersonChange storedChange;
+    // null until loaded
+    private PersonChange change;
+
+    /**
+     * Creates a RestoredCommand that made the change kept as {@code storedChange}.
+     */
+    public RestoredCommand(StoredPersonChange storedChange) {
+        requireNonNull(storedChange);
+        this.storedChange = storedChange;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        throw new AssertionError("A restored command is only undone and redone.");
+    }
+
+    @Override
+    public void undo(Model model) throws CommandException {
+        requireNonNull(model);
+        PersonChange loadedChange = loadChange();
+        try {
+            loadedChange.undo(model);
+        } catch (PersonNotFoundException | DuplicatePersonException e) {
+            throw new CommandException(MESSAGE_MISMATCHED_CHANGE, e);
+        }
+    }
+
+    @Override
+    public void redo(Model model) throws CommandException {
+        requireNonNull(model);
+        PersonChange loadedChange = loadChange();
+        try {
+            loadedChange.redo(model);
+        } catch (PersonNotFoundException | DuplicatePersonException e) {
+            throw new CommandException(MESSAGE_MISMATCHED_CHANGE, e);
+        }
+    }
+
+    /**
+     * Returns the change made by this command, if it was loaded already.
+     */
+    @Override
+    public Optional<PersonChange> getChange() {
+        return Optional.ofNullable(change);
+    }
+
+    private PersonChange loadChange() throws CommandException {
+        if (change == null) {
+            try {
+                change = storedChange.load();
+            } catch (DataLoadingException e) {
+                throw new CommandException(MESSAGE_UNREADABLE_CHANGE, e);
+            }
+        }
+        return change;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("change", change)
+                .toString();
+    }
+}
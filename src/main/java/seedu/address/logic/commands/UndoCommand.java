@@ -32,7 +32,13 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_NO_UNDO_FAILURE);
         }
 
-        lastCommand.undo(model);
+        try {
+            lastCommand.undo(model);
+        } catch (CommandException e) {
+            // the commands left cannot be undone or redone safely either
+            tracker.clear();
+            throw e;
+        }
         return new CommandResult(MESSAGE_UNDO_SUCCESS);
     }
 
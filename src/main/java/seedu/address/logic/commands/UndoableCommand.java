@@ -1,6 +1,10 @@
 package seedu.address.logic.commands;
 
+import java.util.Optional;
+
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.PersonChange;
 
 /**
  * Represents a command that supports undo and redo operations.
@@ -8,11 +12,23 @@ import seedu.address.model.Model;
 public abstract class UndoableCommand extends Command {
     /**
      * Undoes the last command executed.
+     *
+     * @throws CommandException If the command can no longer be undone.
      */
-    public abstract void undo(Model model);
+    public abstract void undo(Model model) throws CommandException;
 
     /**
      * Redoes the last undone command.
+     *
+     * @throws CommandException If the command can no longer be redone.
+     */
+    public abstract void redo(Model model) throws CommandException;
+
+    /**
+     * Returns the change made by the last execution of this command, if it can be kept in the undo history across
+     * sessions.
      */
-    public abstract void redo(Model model);
+    public Optional<PersonChange> getChange() {
+        return Optional.empty();
+    }
 }
@@ -16,4 +16,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_NICKNAME = new Prefix("nn/");
     public static final Prefix PREFIX_NOTES = new Prefix("no/");
     public static final Prefix PREFIX_SORT = new Prefix("s/");
+    public static final Prefix PREFIX_FUZZY = new Prefix("f/");
+    public static final Prefix PREFIX_UPCOMING = new Prefix("u/");
+    public static final Prefix PREFIX_DAYS = new Prefix("d/");
 }
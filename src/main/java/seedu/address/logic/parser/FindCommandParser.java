@@ -1,33 +1,107 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NICKNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.FuzzyNameQuery;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.SearchField;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final Map<Prefix, SearchField> SEARCH_FIELDS = new LinkedHashMap<>();
+
+    static {
+        SEARCH_FIELDS.put(PREFIX_NAME, SearchField.NAME);
+        SEARCH_FIELDS.put(PREFIX_PHONE, SearchField.PHONE);
+        SEARCH_FIELDS.put(PREFIX_EMAIL, SearchField.EMAIL);
+        SEARCH_FIELDS.put(PREFIX_ADDRESS, SearchField.ADDRESS);
+        SEARCH_FIELDS.put(PREFIX_NICKNAME, SearchField.NICKNAME);
+        SEARCH_FIELDS.put(PREFIX_NOTES, SearchField.NOTES);
+        SEARCH_FIELDS.put(PREFIX_TAG, SearchField.TAG);
+        SEARCH_FIELDS.put(PREFIX_RELATIONSHIP, SearchField.RELATIONSHIP);
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Keywords before any prefix search names. Keywords given for the same field, including repeated prefixes,
+     * are combined. Keywords after the fuzzy prefix make a fuzzy search instead.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        List<Prefix> prefixes = new ArrayList<>(SEARCH_FIELDS.keySet());
+        prefixes.add(PREFIX_FUZZY);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, prefixes.toArray(new Prefix[0]));
+
+        if (argMultimap.getValue(PREFIX_FUZZY).isPresent()) {
+            return parseFuzzy(argMultimap);
+        }
+
+        Map<SearchField, List<String>> keywordsByField = new EnumMap<>(SearchField.class);
+        String preamble = argMultimap.getPreamble();
+        if (!preamble.isEmpty()) {
+            addKeywords(keywordsByField, SearchField.NAME, preamble);
+        }
+        for (Map.Entry<Prefix, SearchField> entry : SEARCH_FIELDS.entrySet()) {
+            for (String value : argMultimap.getAllValues(entry.getKey())) {
+                addKeywords(keywordsByField, entry.getValue(), value);
+            }
+        }
+
+        if (keywordsByField.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        return new FindCommand(new PersonContainsKeywordsPredicate(keywordsByField));
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Parses a find in fuzzy mode, which takes keywords after the fuzzy prefix only.
+     */
+    private static FindCommand parseFuzzy(ArgumentMultimap argMultimap) throws ParseException {
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FUZZY);
+        boolean hasOtherArguments = !argMultimap.getPreamble().isEmpty()
+                || SEARCH_FIELDS.keySet().stream().anyMatch(prefix -> argMultimap.getValue(prefix).isPresent());
+        String keywords = argMultimap.getValue(PREFIX_FUZZY).get().trim();
+        if (hasOtherArguments || keywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        return new FindCommand(new FuzzyNameQuery(Arrays.asList(keywords.split("\\s+"))));
+    }
+
+    private static void addKeywords(Map<SearchField, List<String>> keywordsByField, SearchField field, String value)
+            throws ParseException {
+        String trimmedValue = value.trim();
+        if (trimmedValue.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        keywordsByField.computeIfAbsent(field, unused -> new ArrayList<>())
+                .addAll(Arrays.asList(trimmedValue.split("\\s+")));
     }
 
 }
@@ -1,11 +1,15 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UPCOMING;
 
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -16,9 +20,11 @@ public class ListCommandParser implements Parser<ListCommand> {
     public static final String ASCENDING_ORDER = "asc";
     public static final String DESCENDING_ORDER = "desc";
     public static final String COMMAND_USAGE = "list : Lists all persons in the address book\n"
-            + "Parameters (optional): "
-            + PREFIX_SORT + "SORT_ORDER [asc / desc]\n"
-            + "Example: list " + PREFIX_SORT + "asc";
+            + "Parameters (optional, at most one): "
+            + PREFIX_SORT + "SORT_ORDER [asc / desc] "
+            + PREFIX_UPCOMING + "NUMBER_OF_PERSONS "
+            + PREFIX_DAYS + "NUMBER_OF_DAYS\n"
+            + "Examples: list " + PREFIX_SORT + "asc, list " + PREFIX_UPCOMING + "5, list " + PREFIX_DAYS + "30";
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
     /**
      * Parses the given {@code String} of arguments in the context of the ListCommand
@@ -33,10 +39,23 @@ public class ListCommandParser implements Parser<ListCommand> {
         }
         trimmedArgs = " " + trimmedArgs; // precede with space for tokenizer
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(trimmedArgs, PREFIX_SORT);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(trimmedArgs, PREFIX_SORT, PREFIX_UPCOMING,
+                PREFIX_DAYS);
         if (!argMultimap.getPreamble().isBlank()) {
             throw new ParseException("Invalid command format.\n" + COMMAND_USAGE);
         }
+        long optionCount = Stream.of(PREFIX_SORT, PREFIX_UPCOMING, PREFIX_DAYS)
+                .filter(prefix -> argMultimap.getValue(prefix).isPresent())
+                .count();
+        if (optionCount > 1) {
+            throw new ParseException("Only one option can be given.\n" + COMMAND_USAGE);
+        }
+        if (argMultimap.getValue(PREFIX_UPCOMING).isPresent()) {
+            return ListCommand.ofUpcomingBirthdays(parsePositiveNumber(argMultimap.getValue(PREFIX_UPCOMING).get()));
+        }
+        if (argMultimap.getValue(PREFIX_DAYS).isPresent()) {
+            return ListCommand.ofBirthdaysWithin(parsePositiveNumber(argMultimap.getValue(PREFIX_DAYS).get()));
+        }
         Optional<String> sort = argMultimap.getValue(PREFIX_SORT).map(String::toLowerCase).map(String::trim);
 
         if (sort.isEmpty()) {
@@ -51,4 +70,12 @@ public class ListCommandParser implements Parser<ListCommand> {
             throw new ParseException("Invalid sort order!\n" + COMMAND_USAGE);
         }
     }
+
+    private static int parsePositiveNumber(String value) throws ParseException {
+        String trimmedValue = value.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedValue)) {
+            throw new ParseException("The number must be a positive integer!\n" + COMMAND_USAGE);
+        }
+        return Integer.parseInt(trimmedValue);
+    }
 }
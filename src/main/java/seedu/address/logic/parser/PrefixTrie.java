@@ -0,0 +1,110 @@
+package seedu.address.logic.parser;
+
+/**
+ * A trie of prefixes, which finds the longest prefix starting at a position of an arguments string by following its
+ * characters once, however many prefixes there are.
+ * <p>
+ * The nodes are kept in arrays, where node 0 is the root and each node links to its first child and next sibling.
+ */
+class PrefixTrie {
+
+    private static final int NONE = -1;
+
+    private final char[] characters;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+    private final Prefix[] prefixEndingAt;
+    private int nodeCount;
+    // the ASCII characters that prefixes start with, as bits, so that most words are passed over at a glance
+    private long lowFirstCharacters;
+    private long highFirstCharacters;
+
+    /**
+     * Creates a trie of {@code prefixes}.
+     */
+    PrefixTrie(Prefix... prefixes) {
+        int maxNodeCount = 1;
+        for (Prefix prefix : prefixes) {
+            maxNodeCount += prefix.getPrefix().length();
+        }
+        characters = new char[maxNodeCount];
+        firstChild = new int[maxNodeCount];
+        nextSibling = new int[maxNodeCount];
+        prefixEndingAt = new Prefix[maxNodeCount];
+        firstChild[0] = NONE;
+        nextSibling[0] = NONE;
+        nodeCount = 1;
+
+        for (Prefix prefix : prefixes) {
+            add(prefix);
+        }
+    }
+
+    private void add(Prefix prefix) {
+        String prefixString = prefix.getPrefix();
+        if (!prefixString.isEmpty()) {
+            char firstCharacter = prefixString.charAt(0);
+            if (firstCharacter < 64) {
+                lowFirstCharacters |= 1L << firstCharacter;
+            } else if (firstCharacter < 128) {
+                highFirstCharacters |= 1L << firstCharacter;
+            } else {
+                // not tracked, so every character may start a prefix
+                lowFirstCharacters = -1L;
+                highFirstCharacters = -1L;
+            }
+        }
+        int node = 0;
+        for (int i = 0; i < prefixString.length(); i++) {
+            int child = findChild(node, prefixString.charAt(i));
+            if (child == NONE) {
+                child = nodeCount++;
+                characters[child] = prefixString.charAt(i);
+                firstChild[child] = NONE;
+                nextSibling[child] = firstChild[node];
+                firstChild[node] = child;
+            }
+            node = child;
+        }
+        prefixEndingAt[node] = prefix;
+    }
+
+    private int findChild(int node, char character) {
+        int child = firstChild[node];
+        while (child != NONE && characters[child] != character) {
+            child = nextSibling[child];
+        }
+        return child;
+    }
+
+    /**
+     * Returns the longest prefix that {@code argsString} has at {@code startPosition}, or null if there is none.
+     */
+    Prefix matchLongest(String argsString, int startPosition) {
+        Prefix longestMatch = prefixEndingAt[0];
+        if (startPosition < argsString.length() && !mayStartPrefix(argsString.charAt(startPosition))) {
+            return longestMatch;
+        }
+        int node = 0;
+        for (int i = startPosition; i < argsString.length(); i++) {
+            node = findChild(node, argsString.charAt(i));
+            if (node == NONE) {
+                break;
+            }
+            if (prefixEndingAt[node] != null) {
+                longestMatch = prefixEndingAt[node];
+            }
+        }
+        return longestMatch;
+    }
+
+    private boolean mayStartPrefix(char character) {
+        if (character < 64) {
+            return (lowFirstCharacters & (1L << character)) != 0;
+        }
+        if (character < 128) {
+            return (highFirstCharacters & (1L << character)) != 0;
+        }
+        return lowFirstCharacters == -1L;
+    }
+}
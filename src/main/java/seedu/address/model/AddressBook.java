@@ -2,11 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.FuzzyNameQuery;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonListSnapshot;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -16,6 +22,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +53,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -57,6 +65,25 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Removes every person from this {@code AddressBook}, and returns them as a snapshot that
+     * {@link #restorePersons(PersonListSnapshot)} can put back without copying them.
+     */
+    public PersonListSnapshot clearPersons() {
+        PersonListSnapshot snapshot = persons.clear();
+        version++;
+        return snapshot;
+    }
+
+    /**
+     * Puts back the persons removed by the {@link #clearPersons()} that returned {@code snapshot}.
+     * The address book must have no persons.
+     */
+    public void restorePersons(PersonListSnapshot snapshot) {
+        persons.restore(snapshot);
+        version++;
+    }
+
     //// person-level operations
 
     /**
@@ -73,6 +100,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
     }
 
     /**
@@ -84,6 +112,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
@@ -92,6 +121,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
+    }
+
+    /**
+     * Removes {@code keys} from this {@code AddressBook} as a single change to the person list.
+     * Every person in {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+        version++;
+    }
+
+    /**
+     * Starts a batch of changes to the persons, which are shown in the person list as a single change once
+     * {@link #commitChanges()} is called.
+     */
+    public void beginChanges() {
+        persons.beginChanges();
+    }
+
+    /**
+     * Shows the changes to the persons since {@link #beginChanges()} in the person list.
+     */
+    public void commitChanges() {
+        persons.commitChanges();
     }
 
     //// util methods
@@ -108,6 +162,31 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Set<Person> findPersons(PersonContainsKeywordsPredicate predicate) {
+        return persons.find(predicate);
+    }
+
+    @Override
+    public List<Person> findSimilarPersons(FuzzyNameQuery query) {
+        return persons.findSimilar(query);
+    }
+
+    @Override
+    public List<Person> getUpcomingBirthdays(LocalDate today, int count) {
+        return persons.getUpcomingBirthdays(today, count);
+    }
+
+    @Override
+    public List<Person> getBirthdaysWithin(LocalDate today, int days) {
+        return persons.getBirthdaysWithin(today, days);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,32 +2,51 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 
 /**
  * Represents the command history in the address book.
+ * The most recent {@code MAX_HISTORY_SIZE} commands are kept in a ring buffer, so recording a command never
+ * shifts or copies the other commands.
  * Guarantees: details are present and not null.
  */
 public class CommandHistory implements ReadOnlyCommandHistory {
+    public static final int MAX_HISTORY_SIZE = 100;
+
     private static final Logger logger = LogsCenter.getLogger(CommandHistory.class);
-    private static final int MAX_HISTORY_SIZE = 100;
-    private final List<String> commandList;
+
+    private final String[] commands = new String[MAX_HISTORY_SIZE];
+    private final List<String> commandList = new CommandListView();
+    private int start = 0; // position of the oldest command in commands
+    private int size = 0;
     private int currentIndex = 0;
+    private long version;
+    // Replaced whenever the commands are replaced wholesale; shared by copies that only differ by added commands.
+    private Object lineage = new Object();
 
-    public CommandHistory() {
-        commandList = new ArrayList<>();
-    }
+    public CommandHistory() {}
 
     /**
      * Creates a CommandHistory using the List in the {@code toBeCopied}
      */
     public CommandHistory(ReadOnlyCommandHistory toBeCopied) {
         this();
-        resetData(toBeCopied);
+        requireNonNull(toBeCopied);
+        if (toBeCopied instanceof CommandHistory) {
+            CommandHistory source = (CommandHistory) toBeCopied;
+            System.arraycopy(source.commands, 0, commands, 0, MAX_HISTORY_SIZE);
+            start = source.start;
+            size = source.size;
+            version = source.version;
+            lineage = source.lineage;
+        } else {
+            resetData(toBeCopied);
+        }
     }
 
     /**
@@ -35,9 +54,19 @@ public class CommandHistory implements ReadOnlyCommandHistory {
      */
     public void setCommands(List<String> commands) {
         logger.fine("Setting commands: " + commands.size() + " commands.");
-        this.commandList.clear();
-        this.commandList.addAll(commands);
-        trimToSize();
+        if (commands.size() > MAX_HISTORY_SIZE) {
+            logger.info("Trimming command history.");
+        }
+        // copy first, as commands may be a view of this history
+        Object[] retained = commands.subList(Math.max(0, commands.size() - MAX_HISTORY_SIZE), commands.size())
+                .toArray();
+        for (int i = 0; i < MAX_HISTORY_SIZE; i++) {
+            this.commands[i] = i < retained.length ? (String) retained[i] : null;
+        }
+        start = 0;
+        size = retained.length;
+        version++;
+        lineage = new Object();
     }
 
     /**
@@ -49,34 +78,43 @@ public class CommandHistory implements ReadOnlyCommandHistory {
     }
 
     /**
-     * Adds a command to the command history.
+     * Adds a command to the command history, dropping the oldest command if the history is full.
      */
     public void addCommand(String command) {
         logger.fine("Adding command to history: " + command + ".");
-        commandList.add(command);
-        trimToSize();
-    }
-
-    /**
-     * Ensures the history doesn't exceed the maximum size.
-     */
-    private void trimToSize() {
-        if (commandList.size() > MAX_HISTORY_SIZE) {
-            logger.info("Trimming command history.");
-            commandList.subList(0, commandList.size() - MAX_HISTORY_SIZE).clear();
+        if (size < MAX_HISTORY_SIZE) {
+            commands[(start + size) % MAX_HISTORY_SIZE] = command;
+            size++;
+        } else {
+            commands[start] = command;
+            start = (start + 1) % MAX_HISTORY_SIZE;
         }
+        version++;
     }
 
     @Override
     public List<String> getCommandHistory() {
-        return new ArrayList<>(commandList);
+        return commandList;
+    }
+
+    @Override
+    public Optional<List<String>> getCommandsAddedSince(ReadOnlyCommandHistory earlier) {
+        requireNonNull(earlier);
+        if (!(earlier instanceof CommandHistory) || ((CommandHistory) earlier).lineage != lineage) {
+            return Optional.empty();
+        }
+        long added = version - earlier.getVersion();
+        if (added < 0 || added > size) {
+            return Optional.empty();
+        }
+        return Optional.of(commandList.subList(size - (int) added, size));
     }
 
     @Override
     public String getPreviousCommand() {
         if (canNavigateBackward()) {
             this.currentIndex++;
-            String command = commandList.get(commandList.size() - currentIndex);
+            String command = commandList.get(size - currentIndex);
             logger.fine("Navigating to previous command: " + command + ".");
             return command;
         }
@@ -95,7 +133,7 @@ public class CommandHistory implements ReadOnlyCommandHistory {
                 logger.fine("Navigated to beginning of command history.");
                 return "";
             }
-            String command = commandList.get(commandList.size() - currentIndex);
+            String command = commandList.get(size - currentIndex);
             logger.fine("Navigating to next command: " + command + ".");
             return command;
         }
@@ -111,7 +149,7 @@ public class CommandHistory implements ReadOnlyCommandHistory {
 
     @Override
     public boolean canNavigateBackward() {
-        return this.currentIndex < commandList.size();
+        return this.currentIndex < size;
     }
 
     @Override
@@ -119,6 +157,11 @@ public class CommandHistory implements ReadOnlyCommandHistory {
         return this.currentIndex > 0;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -138,4 +181,22 @@ public class CommandHistory implements ReadOnlyCommandHistory {
         return commandList.hashCode();
     }
 
+    /**
+     * An unmodifiable view of the commands in the ring buffer, oldest first.
+     */
+    private class CommandListView extends AbstractList<String> {
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return commands[(start + index) % MAX_HISTORY_SIZE];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
 }
@@ -2,11 +2,13 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListSnapshot;
 
 /**
  * The API of the Model component.
@@ -50,6 +52,18 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Removes every person from the address book, and returns them as a snapshot that
+     * {@link #restorePersons(PersonListSnapshot)} can put back. The persons are handed over rather than copied.
+     */
+    PersonListSnapshot clearPersons();
+
+    /**
+     * Puts back the persons removed by the {@link #clearPersons()} that returned {@code snapshot}.
+     * The address book must have no persons, and a snapshot can only be restored once.
+     */
+    void restorePersons(PersonListSnapshot snapshot);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
@@ -74,6 +88,12 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given persons as a single change to the person list.
+     * Every person must exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -87,6 +107,18 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Starts a batch of changes to the persons. The persons added, edited and deleted until the matching
+     * {@link #commitChanges()} are shown in the filtered person list as a single change, which is filtered and sorted
+     * once. Batches can be nested, in which case only the outermost one is committed to the list.
+     */
+    void beginChanges();
+
+    /**
+     * Ends the batch of changes started by the matching {@link #beginChanges()}.
+     */
+    void commitChanges();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -96,6 +128,20 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and sorts it by
+     * {@code filterOrder} only until the filter is next updated, when the order set by
+     * {@link #sortFilteredPersonList(Comparator)} is restored.
+     * @throws NullPointerException if {@code predicate} or {@code filterOrder} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> filterOrder);
+
+    /**
+     * Updates the filtered person list to show only {@code persons}, in their order, until the filter is next updated.
+     * @throws NullPointerException if {@code persons} is null.
+     */
+    void showPersonsInOrder(List<Person> persons);
+
     /**
      * Sorts the filtered person list by the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
@@ -5,15 +5,21 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonKeyComparator;
+import seedu.address.model.person.PersonListSnapshot;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -27,6 +33,14 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
 
+    // the number of batches of changes begun and not yet committed, and whether a person was added in them
+    private int changeDepth;
+    private boolean isShowAllPending;
+    // the order of the filtered person list set by sortFilteredPersonList, and whether another order that only
+    // applies to the current filter is in its place
+    private Comparator<Person> sortOrder;
+    private boolean isFilterOrderApplied;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -42,6 +56,7 @@ public class ModelManager implements Model {
         this.commandHistory = new CommandHistory(commandHistory);
         this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         this.sortedPersons = new SortedList<>(filteredPersons);
+        this.addressBook.getPersonList().addListener(this::evictRemovedSortKeys);
     }
 
     public ModelManager() {
@@ -102,6 +117,22 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public PersonListSnapshot clearPersons() {
+        return addressBook.clearPersons();
+    }
+
+    @Override
+    public void restorePersons(PersonListSnapshot snapshot) {
+        requireNonNull(snapshot);
+        addressBook.restorePersons(snapshot);
+        if (changeDepth > 0) {
+            isShowAllPending = true;
+        } else {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
@@ -118,10 +149,20 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        if (changeDepth > 0) {
+            isShowAllPending = true;
+        } else {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
     }
 
     @Override
@@ -131,6 +172,33 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void beginChanges() {
+        if (changeDepth == 0) {
+            addressBook.beginChanges();
+        }
+        changeDepth++;
+    }
+
+    @Override
+    public void commitChanges() {
+        if (changeDepth == 0) {
+            throw new IllegalStateException("No batch of changes was begun");
+        }
+        changeDepth--;
+        if (changeDepth > 0) {
+            return;
+        }
+
+        addressBook.commitChanges();
+        // the added persons are shown by filtering again at most once, and not at all if every person is shown
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        if (isShowAllPending && predicate != null && predicate != PREDICATE_SHOW_ALL_PERSONS) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+        isShowAllPending = false;
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -142,22 +210,81 @@ public class ModelManager implements Model {
         return sortedPersons;
     }
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * An order that only applied to the previous filter is replaced by the one set by
+     * {@link #sortFilteredPersonList(Comparator)} first, so that the persons shown by the new filter are only sorted
+     * once.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (isFilterOrderApplied) {
+            isFilterOrderApplied = false;
+            setComparator(sortOrder);
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> filterOrder) {
+        requireAllNonNull(predicate, filterOrder);
+        updateFilteredPersonList(predicate);
+        isFilterOrderApplied = true;
+        setComparator(filterOrder);
+    }
+
+    /**
+     * Shows {@code persons} ranked by their position in it, which only orders this result.
+     */
+    @Override
+    public void showPersonsInOrder(List<Person> persons) {
+        requireNonNull(persons);
+        Map<Person, Integer> ranks = new IdentityHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            ranks.put(persons.get(i), i);
+        }
+        updateFilteredPersonList(ranks::containsKey,
+                PersonKeyComparator.comparingLong(person -> ranks.getOrDefault(person, persons.size())));
+    }
+
     /**
-     * Sorts the filtered person list by the given {@code comparator}.
-     * @param comparator
+     * Sorts the filtered person list by the given {@code comparator}, or by order of addition if it is null.
+     * The order is kept when the filter is updated.
      */
     @Override
     public void sortFilteredPersonList(Comparator<Person> comparator) {
-        // Allow null, to have original ordering (by order of addition)
+        sortOrder = comparator;
+        isFilterOrderApplied = false;
+        setComparator(comparator);
+    }
+
+    /**
+     * Sorts the filtered person list by {@code comparator}, or by order of addition if it is null.
+     * The keys of a {@code PersonKeyComparator} are computed once for every listed person before sorting.
+     */
+    private void setComparator(Comparator<Person> comparator) {
+        if (comparator instanceof PersonKeyComparator) {
+            ((PersonKeyComparator) comparator).precompute(filteredPersons);
+        }
         sortedPersons.setComparator(comparator);
     }
 
+    /**
+     * Drops the cached sort keys of the persons removed or replaced in {@code change}.
+     */
+    private void evictRemovedSortKeys(ListChangeListener.Change<? extends Person> change) {
+        if (!(sortedPersons.getComparator() instanceof PersonKeyComparator)) {
+            return;
+        }
+        PersonKeyComparator comparator = (PersonKeyComparator) sortedPersons.getComparator();
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                comparator.evict(removed);
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
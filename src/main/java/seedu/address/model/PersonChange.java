@@ -0,0 +1,182 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDelta;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * A change made to the persons in the address book by a single command, which can be undone and redone.
+ * It keeps only what undoing and redoing it needs: the persons added or deleted, or the delta of an edit.
+ */
+public final class PersonChange {
+
+    /**
+     * Represents the kind of change made to the persons.
+     */
+    public enum Kind {
+        ADD,
+        EDIT,
+        DELETE
+    }
+
+    private final Kind kind;
+    // the persons added or deleted, or the edited person alone
+    private final List<Person> persons;
+    // null unless the change is an edit
+    private final PersonDelta edit;
+
+    private PersonChange(Kind kind, List<Person> persons, PersonDelta edit) {
+        this.kind = kind;
+        this.persons = persons;
+        this.edit = edit;
+    }
+
+    /**
+     * Returns the change that adds {@code person} to the end of the address book.
+     */
+    public static PersonChange added(Person person) {
+        requireNonNull(person);
+        return new PersonChange(Kind.ADD, List.of(person), null);
+    }
+
+    /**
+     * Returns the change that makes {@code edit} to a person in the address book.
+     */
+    public static PersonChange edited(PersonDelta edit) {
+        requireNonNull(edit);
+        return new PersonChange(Kind.EDIT, List.of(edit.getEdited()), edit);
+    }
+
+    /**
+     * Returns the change that deletes {@code persons} from the address book.
+     */
+    public static PersonChange deleted(List<Person> persons) {
+        requireAllNonNull(persons);
+        return new PersonChange(Kind.DELETE, List.copyOf(persons), null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the persons added or deleted, or the edited person alone if the change is an edit.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the delta of the edit.
+     * The change must be an edit.
+     */
+    public PersonDelta getEdit() {
+        assert kind == Kind.EDIT : "only edits have a delta";
+        return edit;
+    }
+
+    /**
+     * Reverts this change in {@code model}.
+     * The change must be the last one made to the persons in {@code model} that is not yet undone.
+     *
+     * @throws PersonNotFoundException if a person the change made is not in {@code model}.
+     * @throws DuplicatePersonException if a person the change removed would clash with another person in
+     *     {@code model}, in which case a deletion is not reverted at all.
+     */
+    public void undo(Model model) {
+        requireNonNull(model);
+        switch (kind) {
+        case ADD:
+            model.deletePerson(persons.get(0));
+            break;
+        case EDIT:
+            model.setPerson(edit.getEdited(), edit.getOriginal());
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            break;
+        case DELETE:
+            List<Person> personsToAdd = new ArrayList<>(persons.size());
+            for (Person person : persons) {
+                if (!model.hasPerson(person)) {
+                    personsToAdd.add(person);
+                } else if (!model.getAddressBook().getPersonList().contains(person)) {
+                    // another person with the same identity took its place, so the change no longer applies
+                    throw new DuplicatePersonException();
+                }
+            }
+            // the persons are added back to the list as a single change
+            model.beginChanges();
+            try {
+                for (Person person : personsToAdd) {
+                    model.addPerson(person);
+                }
+            } finally {
+                model.commitChanges();
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown kind of change: " + kind);
+        }
+    }
+
+    /**
+     * Makes this change again in {@code model}, after it was undone.
+     */
+    public void redo(Model model) {
+        requireNonNull(model);
+        switch (kind) {
+        case ADD:
+            model.addPerson(persons.get(0));
+            break;
+        case EDIT:
+            model.setPerson(edit.getOriginal(), edit.getEdited());
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            break;
+        case DELETE:
+            model.deletePersons(persons);
+            break;
+        default:
+            throw new AssertionError("Unknown kind of change: " + kind);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonChange)) {
+            return false;
+        }
+
+        PersonChange otherChange = (PersonChange) other;
+        return kind == otherChange.kind
+                && persons.equals(otherChange.persons)
+                && Objects.equals(edit, otherChange.edit);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, persons, edit);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind)
+                .add("persons", persons)
+                .add("edit", edit)
+                .toString();
+    }
+}
@@ -1,17 +1,92 @@
 package seedu.address.model;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.person.BirthdayCalendar;
+import seedu.address.model.person.FuzzyNameQuery;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
  * Unmodifiable view of an address book
  */
 public interface ReadOnlyAddressBook {
 
+    /** The version of an address book that does not track its modifications. */
+    long UNTRACKED_VERSION = -1;
+
     /**
      * Returns an unmodifiable view of the persons list.
      * This list will not contain any duplicate persons.
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the persons that {@code predicate} accepts. The returned set compares persons by identity.
+     */
+    default Set<Person> findPersons(PersonContainsKeywordsPredicate predicate) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        getPersonList().stream().filter(predicate).forEach(matches::add);
+        return matches;
+    }
+
+    /**
+     * Returns the persons that match {@code query}, most similar first, up to the query's limit.
+     */
+    default List<Person> findSimilarPersons(FuzzyNameQuery query) {
+        return query.getTopMatches(getPersonList());
+    }
+
+    /**
+     * Returns up to {@code count} persons with the next birthdays from {@code today}, soonest first.
+     * Persons with birthdays on the same day are in the order of the person list.
+     */
+    default List<Person> getUpcomingBirthdays(LocalDate today, int count) {
+        List<Person> upcoming = getPersonsByUpcomingBirthday(new BirthdayCalendar(today));
+        return upcoming.subList(0, Math.min(count, upcoming.size()));
+    }
+
+    /**
+     * Returns the persons with birthdays less than {@code days} days from {@code today}, soonest first.
+     * Persons with birthdays on the same day are in the order of the person list.
+     */
+    default List<Person> getBirthdaysWithin(LocalDate today, int days) {
+        BirthdayCalendar calendar = new BirthdayCalendar(today);
+        List<Person> within = new ArrayList<>();
+        for (Person person : getPersonsByUpcomingBirthday(calendar)) {
+            if (calendar.getDaysUntil(person.getBirthday().get()) >= days) {
+                break;
+            }
+            within.add(person);
+        }
+        return within;
+    }
+
+    private List<Person> getPersonsByUpcomingBirthday(BirthdayCalendar calendar) {
+        List<Person> persons = new ArrayList<>();
+        for (Person person : getPersonList()) {
+            if (person.getBirthday().isPresent()) {
+                persons.add(person);
+            }
+        }
+        persons.sort(Comparator.<Person>comparingInt(person -> calendar.getDaysUntil(person.getBirthday().get()))
+                .thenComparingInt(person -> BirthdayCalendar.getDayOfYear(person.getBirthday().get())));
+        return persons;
+    }
+
+    /**
+     * Returns a number that changes every time the contents of this address book change,
+     * or {@code UNTRACKED_VERSION} if this address book does not track its modifications.
+     */
+    default long getVersion() {
+        return UNTRACKED_VERSION;
+    }
+
 }
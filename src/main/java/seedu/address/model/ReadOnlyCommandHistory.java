@@ -1,11 +1,16 @@
 package seedu.address.model;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Unmodifiable view of command history
  */
 public interface ReadOnlyCommandHistory {
+
+    /** The version of a command history that does not track its modifications. */
+    long UNTRACKED_VERSION = -1;
+
     /**
      * Returns an unmodifiable view of the command history.
      */
@@ -35,4 +40,21 @@ public interface ReadOnlyCommandHistory {
      * Returns true if there are next commands to navigate to.
      */
     boolean canNavigateForward();
+
+    /**
+     * Returns a number that changes every time the recorded commands of this history change,
+     * or {@code UNTRACKED_VERSION} if this history does not track its modifications.
+     */
+    default long getVersion() {
+        return UNTRACKED_VERSION;
+    }
+
+    /**
+     * Returns the commands recorded after {@code earlier}, oldest first, if this history is a later state of
+     * {@code earlier} that differs from it only by those added commands.
+     * Returns {@code Optional.empty()} if that cannot be determined.
+     */
+    default Optional<List<String>> getCommandsAddedSince(ReadOnlyCommandHistory earlier) {
+        return Optional.empty();
+    }
 }
@@ -1,18 +1,39 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
  */
 public interface ReadOnlyUserPrefs {
 
+    /** The version of user prefs that do not track their modifications. */
+    long UNTRACKED_VERSION = -1;
+
     GuiSettings getGuiSettings();
 
     Path getAddressBookFilePath();
 
     Path getCommandHistoryFilePath();
 
+    StorageFormat getAddressBookStorageFormat();
+
+    /**
+     * Returns the format the address book was last saved in, or an empty {@code Optional} if it was not recorded,
+     * such as in prefs saved before the format was recorded.
+     */
+    Optional<StorageFormat> getAddressBookLastSavedFormat();
+
+    /**
+     * Returns a number that changes every time these prefs change,
+     * or {@code UNTRACKED_VERSION} if these prefs do not track their modifications.
+     */
+    default long getVersion() {
+        return UNTRACKED_VERSION;
+    }
+
 }
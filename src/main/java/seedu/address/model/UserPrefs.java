@@ -5,8 +5,10 @@ import static java.util.Objects.requireNonNull;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -14,11 +16,14 @@ import seedu.address.commons.core.GuiSettings;
 public class UserPrefs implements ReadOnlyUserPrefs {
     private static final String DEFAULT_DATA_PATH = "data";
     private static final String DEFAULT_ADDRESS_BOOK_PATH = "addressbook.json";
-    private static final String DEFAULT_COMMAND_HISTORY_PATH = "commandhistory.json";
+    private static final String DEFAULT_COMMAND_HISTORY_PATH = "commandhistory.jsonl";
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get(DEFAULT_DATA_PATH, DEFAULT_ADDRESS_BOOK_PATH);
     private Path commandHistoryFilePath = Paths.get(DEFAULT_DATA_PATH, DEFAULT_COMMAND_HISTORY_PATH);
+    private StorageFormat addressBookStorageFormat = StorageFormat.JSON;
+    private StorageFormat addressBookLastSavedFormat; // null until the format is first recorded
+    private transient long version; // not part of the saved prefs
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -41,6 +46,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setCommandHistoryFilePath(newUserPrefs.getCommandHistoryFilePath());
+        setAddressBookStorageFormat(newUserPrefs.getAddressBookStorageFormat());
+        addressBookLastSavedFormat = newUserPrefs.getAddressBookLastSavedFormat().orElse(null);
+        version++;
     }
 
     @Override
@@ -51,6 +59,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
         this.guiSettings = guiSettings;
+        version++;
     }
 
     @Override
@@ -61,6 +70,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setAddressBookFilePath(Path addressBookFilePath) {
         requireNonNull(addressBookFilePath);
         this.addressBookFilePath = addressBookFilePath;
+        version++;
     }
 
     @Override
@@ -71,6 +81,34 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setCommandHistoryFilePath(Path commandHistoryFilePath) {
         requireNonNull(commandHistoryFilePath);
         this.commandHistoryFilePath = commandHistoryFilePath;
+        version++;
+    }
+
+    @Override
+    public StorageFormat getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(StorageFormat addressBookStorageFormat) {
+        requireNonNull(addressBookStorageFormat);
+        this.addressBookStorageFormat = addressBookStorageFormat;
+        version++;
+    }
+
+    @Override
+    public Optional<StorageFormat> getAddressBookLastSavedFormat() {
+        return Optional.ofNullable(addressBookLastSavedFormat);
+    }
+
+    public void setAddressBookLastSavedFormat(StorageFormat addressBookLastSavedFormat) {
+        requireNonNull(addressBookLastSavedFormat);
+        this.addressBookLastSavedFormat = addressBookLastSavedFormat;
+        version++;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
 
     @Override
@@ -87,12 +125,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && commandHistoryFilePath.equals(otherUserPrefs.commandHistoryFilePath);
+                && commandHistoryFilePath.equals(otherUserPrefs.commandHistoryFilePath)
+                && addressBookStorageFormat.equals(otherUserPrefs.addressBookStorageFormat)
+                && Objects.equals(addressBookLastSavedFormat, otherUserPrefs.addressBookLastSavedFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, commandHistoryFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, commandHistoryFilePath, addressBookStorageFormat,
+                addressBookLastSavedFormat);
     }
 
     @Override
@@ -101,6 +142,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nCommand History file location : " + commandHistoryFilePath);
+        sb.append("\nLocal data file format : " + addressBookStorageFormat);
+        sb.append("\nLocal data file last saved in : " + getAddressBookLastSavedFormat().map(String::valueOf)
+                .orElse("unknown"));
         return sb.toString();
     }
 
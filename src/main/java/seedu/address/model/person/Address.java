@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -16,6 +18,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -25,16 +28,28 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, false);
+    }
+
+    private Address(String address, boolean isTrusted) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
     }
 
+    /**
+     * Returns a {@code Address} of {@code address} without validating it.
+     * Only for addresses known to be valid, such as those read from a data file saved by this app.
+     */
+    public static Address fromTrusted(String address) {
+        return new Address(address, true);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -38,18 +38,53 @@ public class Birthday {
     public Birthday(String birthday) {
         requireNonNull(birthday);
         birthday = birthday.trim();
-        isValidBirthday(birthday);
         value = birthday;
-        localDate = setLocalDate(birthday);
+        localDate = parseValidBirthday(birthday);
     }
 
-    private LocalDate setLocalDate(String birthday) {
-        String[] parts = birthday.split("-");
-        int day = Integer.parseInt(parts[0]);
-        int month = Integer.parseInt(parts[1]);
-        int year = Integer.parseInt(parts[2]);
+    private Birthday(String birthday, LocalDate localDate) {
+        this.value = birthday;
+        this.localDate = localDate;
+    }
 
-        return LocalDate.of(year, month, day);
+    /**
+     * Returns a {@code Birthday} of {@code birthday} without checking that it is not in the future.
+     * Only for birthdays known to be valid, such as those read from a data file saved by this app.
+     */
+    public static Birthday fromTrusted(String birthday) {
+        requireNonNull(birthday);
+        return new Birthday(birthday, parse(birthday));
+    }
+
+    /**
+     * Returns the {@code Birthday} on the day that {@link #toEpochDay()} of it returns, without validating it.
+     * Only for birthdays known to be valid, such as those read from a data file saved by this app.
+     */
+    public static Birthday fromEpochDay(int epochDay) {
+        LocalDate localDate = LocalDate.ofEpochDay(epochDay);
+        return new Birthday(format(localDate), localDate);
+    }
+
+    /**
+     * Returns the {@code Birthday} on the day that {@link #toEpochDay()} of it returns, validated like
+     * {@link #Birthday(String)}.
+     *
+     * @throws IllegalArgumentException if the day is not a valid birthday.
+     */
+    public static Birthday ofEpochDay(int epochDay) {
+        int year = LocalDate.ofEpochDay(epochDay).getYear();
+        if (year < 0 || year > 9999) {
+            throw new IllegalArgumentException(MESSAGE_BIRTHDAY_CONSTRAINTS_FORMAT);
+        }
+        return new Birthday(fromEpochDay(epochDay).value);
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to this birthday.
+     * Every valid birthday has a four-digit year, so the number fits in an {@code int}.
+     */
+    public int toEpochDay() {
+        return (int) localDate.toEpochDay();
     }
 
     public LocalDate getLocalDate() {
@@ -65,28 +100,67 @@ public class Birthday {
      * Returns if a given string is a valid birthday
      */
     public static boolean isValidBirthday(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
+        parseValidBirthday(test);
+        return true;
+    }
+
+    /**
+     * Returns the date of the birthday {@code test}, checking that it is not in the future.
+     */
+    private static LocalDate parseValidBirthday(String test) {
+        LocalDate birthDate = parse(test);
+        if (birthDate.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException(MESSAGE_BIRTHDAY_CONSTRAINTS_FUTURE);
+        }
+        return birthDate;
+    }
+
+    /**
+     * Returns the date that {@code test} in the format DD-MM-YYYY stands for.
+     * This scans the digits directly, instead of matching {@link #VALIDATION_REGEX} and then splitting the string.
+     *
+     * @throws IllegalArgumentException if {@code test} is not in the format or is not a real date.
+     */
+    private static LocalDate parse(String test) {
+        if (test.length() != 10 || test.charAt(2) != '-' || test.charAt(5) != '-') {
             throw new IllegalArgumentException(MESSAGE_BIRTHDAY_CONSTRAINTS_FORMAT);
         }
+        int day = parseDigits(test, 0, 2);
+        int month = parseDigits(test, 3, 5);
+        int year = parseDigits(test, 6, 10);
         try {
-            String[] parts = test.split("-");
-            int day = Integer.parseInt(parts[0]);
-            int month = Integer.parseInt(parts[1]);
-            int year = Integer.parseInt(parts[2]);
-
-            // Create LocalDate for validation
-            LocalDate birthDate = LocalDate.of(year, month, day);
-            LocalDate today = LocalDate.now();
-
-            // Check if date is not in the future
-            if (birthDate.isAfter(today)) {
-                throw new IllegalArgumentException(MESSAGE_BIRTHDAY_CONSTRAINTS_FUTURE);
-            }
-
+            return LocalDate.of(year, month, day);
         } catch (DateTimeException e) {
             throw new IllegalArgumentException(MESSAGE_BIRTHDAY_CONSTRAINTS_INVALID);
         }
-        return true;
+    }
+
+    /**
+     * Returns {@code localDate} in the format DD-MM-YYYY, which is the inverse of {@link #parse(String)}.
+     */
+    private static String format(LocalDate localDate) {
+        int day = localDate.getDayOfMonth();
+        int month = localDate.getMonthValue();
+        int year = localDate.getYear();
+        assert year >= 0 && year <= 9999;
+        return new String(new char[] {
+            (char) ('0' + day / 10), (char) ('0' + day % 10), '-',
+            (char) ('0' + month / 10), (char) ('0' + month % 10), '-',
+            (char) ('0' + year / 1000), (char) ('0' + year / 100 % 10),
+            (char) ('0' + year / 10 % 10), (char) ('0' + year % 10)
+        });
+    }
+
+    private static int parseDigits(String test, int start, int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            char digit = test.charAt(i);
+            if (digit < '0' || digit > '9') {
+                throw new IllegalArgumentException(MESSAGE_BIRTHDAY_CONSTRAINTS_FORMAT);
+            }
+            number = number * 10 + (digit - '0');
+        }
+        return number;
     }
 
 
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * The number of days from a given date until the next birthday on each day of the year.
+ * <p>
+ * The days of the year are numbered from 0 for 1 January to 365 for 31 December, counting 29 February, so that every
+ * birthday has a day whatever the year. A birthday on 29 February falls on 28 February in years without that day.
+ * Computing the days once for all 366 days lets persons be ordered by upcoming birthday without any date arithmetic
+ * per comparison.
+ */
+public class BirthdayCalendar {
+
+    public static final int DAYS_IN_CALENDAR = 366;
+
+    private static final int LEAP_YEAR = 2000;
+
+    private final int[] daysUntil = new int[DAYS_IN_CALENDAR];
+    private final int[] daysInOrder = new int[DAYS_IN_CALENDAR];
+
+    /**
+     * Creates the calendar of upcoming birthdays as seen on {@code today}.
+     */
+    public BirthdayCalendar(LocalDate today) {
+        requireNonNull(today);
+        MonthDay currentMonthDay = MonthDay.from(today);
+        long[] daysAndDay = new long[DAYS_IN_CALENDAR];
+        for (int day = 0; day < DAYS_IN_CALENDAR; day++) {
+            MonthDay birthdayMonthDay = MonthDay.from(LocalDate.ofYearDay(LEAP_YEAR, day + 1));
+            LocalDate nextBirthday = birthdayMonthDay.atYear(today.getYear());
+            if (birthdayMonthDay.isBefore(currentMonthDay)) {
+                nextBirthday = nextBirthday.plusYears(1);
+            }
+            daysUntil[day] = (int) ChronoUnit.DAYS.between(today, nextBirthday);
+            daysAndDay[day] = (long) daysUntil[day] * DAYS_IN_CALENDAR + day;
+        }
+
+        // days with equally near birthdays, which are 28 and 29 February in some years, stay in calendar order
+        Arrays.sort(daysAndDay);
+        for (int i = 0; i < DAYS_IN_CALENDAR; i++) {
+            daysInOrder[i] = (int) (daysAndDay[i] % DAYS_IN_CALENDAR);
+        }
+    }
+
+    /**
+     * Returns the day of the year of {@code birthday}, from 0 to 365.
+     */
+    public static int getDayOfYear(Birthday birthday) {
+        LocalDate birthDate = birthday.getLocalDate();
+        return birthDate.getMonth().firstDayOfYear(true) + birthDate.getDayOfMonth() - 2;
+    }
+
+    /**
+     * Returns the number of days until the next birthday on {@code dayOfYear}, which is 0 if it is today.
+     */
+    public int getDaysUntil(int dayOfYear) {
+        return daysUntil[dayOfYear];
+    }
+
+    /**
+     * Returns the number of days until the next {@code birthday}, which is 0 if it is today.
+     */
+    public int getDaysUntil(Birthday birthday) {
+        return daysUntil[getDayOfYear(birthday)];
+    }
+
+    /**
+     * Returns the {@code position}-th day of the year in the order of upcoming birthdays, starting from 0 for today.
+     */
+    public int getDayInOrder(int position) {
+        return daysInOrder[position];
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An index of persons by the day of the year of their birthday, so that the persons with the next birthdays can be
+ * found by visiting the days in the order of a {@link BirthdayCalendar}, without looking at every person.
+ * Persons with birthdays on the same day are kept in the order they were added.
+ */
+class BirthdayIndex {
+
+    private final List<List<Person>> personsByDay = new ArrayList<>(BirthdayCalendar.DAYS_IN_CALENDAR);
+
+    BirthdayIndex() {
+        for (int day = 0; day < BirthdayCalendar.DAYS_IN_CALENDAR; day++) {
+            personsByDay.add(new ArrayList<>(0));
+        }
+    }
+
+    /**
+     * Adds {@code person} under the day of its birthday, if it has one.
+     */
+    void add(Person person) {
+        person.getBirthday().ifPresent(birthday ->
+                personsByDay.get(BirthdayCalendar.getDayOfYear(birthday)).add(person));
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added.
+     */
+    void remove(Person person) {
+        person.getBirthday().ifPresent(birthday ->
+                personsByDay.get(BirthdayCalendar.getDayOfYear(birthday)).removeIf(added -> added == person));
+    }
+
+    void clear() {
+        for (List<Person> persons : personsByDay) {
+            persons.clear();
+        }
+    }
+
+    /**
+     * Returns up to {@code count} persons with the next birthdays in {@code calendar}, soonest first.
+     */
+    List<Person> getUpcoming(BirthdayCalendar calendar, int count) {
+        List<Person> upcoming = new ArrayList<>();
+        for (int i = 0; i < BirthdayCalendar.DAYS_IN_CALENDAR && upcoming.size() < count; i++) {
+            List<Person> persons = personsByDay.get(calendar.getDayInOrder(i));
+            upcoming.addAll(persons.subList(0, Math.min(persons.size(), count - upcoming.size())));
+        }
+        return upcoming;
+    }
+
+    /**
+     * Returns the persons with birthdays less than {@code days} days away in {@code calendar}, soonest first.
+     */
+    List<Person> getWithin(BirthdayCalendar calendar, int days) {
+        List<Person> within = new ArrayList<>();
+        for (int i = 0; i < BirthdayCalendar.DAYS_IN_CALENDAR; i++) {
+            int day = calendar.getDayInOrder(i);
+            if (calendar.getDaysUntil(day) >= days) {
+                break;
+            }
+            within.addAll(personsByDay.get(day));
+        }
+        return within;
+    }
+}
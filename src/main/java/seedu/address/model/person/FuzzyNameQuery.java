@@ -0,0 +1,187 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A query for the persons whose names or nicknames are spelt similarly to the given keywords.
+ * <p>
+ * Similarity is measured on the trigrams of words, which are the sequences of three consecutive characters in the
+ * lowercase word padded with two spaces in front and one behind. Each keyword is scored against the word in the
+ * person's name or nickname that it is most similar to, using the Dice coefficient of their trigram sets, and the
+ * similarity of a person is the average score of the keywords. Persons with a similarity of at least
+ * {@link #MIN_SIMILARITY} match, and at most {@code limit} of them are returned, most similar first.
+ */
+public class FuzzyNameQuery {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final double MIN_SIMILARITY = 0.4;
+
+    private final List<String> keywords;
+    private final int limit;
+
+    public FuzzyNameQuery(List<String> keywords) {
+        this(keywords, DEFAULT_LIMIT);
+    }
+
+    /**
+     * Creates a query for at most {@code limit} persons similar to {@code keywords}.
+     */
+    public FuzzyNameQuery(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        assert limit > 0;
+        List<String> lowerCaseKeywords = new ArrayList<>();
+        for (String keyword : keywords) {
+            lowerCaseKeywords.add(keyword.toLowerCase());
+        }
+        this.keywords = List.copyOf(lowerCaseKeywords);
+        this.limit = limit;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the trigrams of {@code word}, which must be lowercase.
+     */
+    public static Set<String> getTrigrams(String word) {
+        String padded = "  " + word + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the distinct lowercase words in the name and nickname of {@code person}.
+     */
+    static Set<String> getSearchedWords(Person person) {
+        Set<String> words = new HashSet<>(SearchField.NAME.tokenize(person));
+        words.addAll(SearchField.NICKNAME.tokenize(person));
+        return words;
+    }
+
+    /**
+     * Returns the Dice coefficient of two trigram sets of the given sizes that share {@code sharedCount} trigrams.
+     */
+    static double getDiceCoefficient(int sharedCount, int firstSize, int secondSize) {
+        return 2.0 * sharedCount / (firstSize + secondSize);
+    }
+
+    /**
+     * Returns the similarity of {@code person} to the keywords, between 0 and 1.
+     * This tests every word of the person and is meant for checking a few persons only.
+     */
+    public double getSimilarity(Person person) {
+        if (keywords.isEmpty()) {
+            return 0;
+        }
+        List<Set<String>> wordTrigrams = new ArrayList<>();
+        for (String word : getSearchedWords(person)) {
+            wordTrigrams.add(getTrigrams(word));
+        }
+
+        double totalScore = 0;
+        for (String keyword : keywords) {
+            Set<String> keywordTrigrams = getTrigrams(keyword);
+            double bestScore = 0;
+            for (Set<String> trigrams : wordTrigrams) {
+                int sharedCount = 0;
+                for (String trigram : keywordTrigrams) {
+                    if (trigrams.contains(trigram)) {
+                        sharedCount++;
+                    }
+                }
+                bestScore = Math.max(bestScore,
+                        getDiceCoefficient(sharedCount, keywordTrigrams.size(), trigrams.size()));
+            }
+            totalScore += bestScore;
+        }
+        return totalScore / keywords.size();
+    }
+
+    /**
+     * Returns the persons in {@code persons} that match this query, most similar first, up to the limit.
+     * This tests every person; an address book looks the matches up in its index instead.
+     */
+    public List<Person> getTopMatches(Collection<Person> persons) {
+        Map<Person, Double> similarities = new IdentityHashMap<>();
+        for (Person person : persons) {
+            similarities.put(person, getSimilarity(person));
+        }
+        return selectTopMatches(similarities);
+    }
+
+    /**
+     * Returns the persons in {@code similarities} that match this query, most similar first, up to the limit.
+     * Persons that are equally similar are ordered by name.
+     */
+    List<Person> selectTopMatches(Map<Person, Double> similarities) {
+        Comparator<Map.Entry<Person, Double>> mostSimilarFirst = Map.Entry.<Person, Double>comparingByValue()
+                .reversed()
+                .thenComparing(entry -> entry.getKey().getNameValue());
+
+        // keeps the best matches seen so far, with the worst of them at the head
+        PriorityQueue<Map.Entry<Person, Double>> topMatches = new PriorityQueue<>(mostSimilarFirst.reversed());
+        for (Map.Entry<Person, Double> entry : similarities.entrySet()) {
+            if (entry.getValue() < MIN_SIMILARITY) {
+                continue;
+            }
+            topMatches.add(entry);
+            if (topMatches.size() > limit) {
+                topMatches.poll();
+            }
+        }
+
+        List<Map.Entry<Person, Double>> sortedMatches = new ArrayList<>(topMatches);
+        sortedMatches.sort(mostSimilarFirst);
+        List<Person> persons = new ArrayList<>();
+        for (Map.Entry<Person, Double> entry : sortedMatches) {
+            persons.add(entry.getKey());
+        }
+        return persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyNameQuery)) {
+            return false;
+        }
+
+        FuzzyNameQuery otherQuery = (FuzzyNameQuery) other;
+        return keywords.equals(otherQuery.keywords) && limit == otherQuery.limit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, limit);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).add("limit", limit).toString();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +20,7 @@ public class Name {
      */
     public static final String VALIDATION_REGEX =
             "^[\\p{L}][\\p{L}0-9 ]*(?:[@.,'/\\\\-][\\p{L}0-9 ]+)*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
@@ -27,16 +30,28 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    private Name(String name, boolean isTrusted) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name} without validating it.
+     * Only for names known to be valid, such as those read from a data file saved by this app.
+     */
+    public static Name fromTrusted(String name) {
+        return new Name(name, true);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
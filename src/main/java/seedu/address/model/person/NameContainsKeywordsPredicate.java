@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -16,9 +17,13 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(Person person) {
-        String fullName = person.getName().fullName.toLowerCase();
+        String fullName = person.getNameValue().toLowerCase();
         List<String> nameWords = Arrays.asList(fullName.split("\\s+"));
         return keywords.stream()
                 .map(keyword -> keyword.toLowerCase())
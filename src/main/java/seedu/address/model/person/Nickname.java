@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's nickname in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNickname(String)}
@@ -14,6 +16,7 @@ public class Nickname {
 
     public static final int MAX_LENGTH = 30;
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String nickname;
 
@@ -23,16 +26,30 @@ public class Nickname {
      * @param nickname A valid nickname.
      */
     public Nickname(String nickname) {
+        this(nickname, false);
+    }
+
+    private Nickname(String nickname, boolean isTrusted) {
         requireNonNull(nickname);
-        isValidNickname(nickname);
+        if (!isTrusted) {
+            isValidNickname(nickname);
+        }
         this.nickname = nickname;
     }
 
+    /**
+     * Returns a {@code Nickname} of {@code nickname} without validating it.
+     * Only for nicknames known to be valid, such as those read from a data file saved by this app.
+     */
+    public static Nickname fromTrusted(String nickname) {
+        return new Nickname(nickname, true);
+    }
+
     /**
      * Validates the nickname and throws an IllegalArgumentException with a specific message if invalid.
      */
     public static boolean isValidNickname(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS_CHARACTERS);
         }
         if (test.length() > MAX_LENGTH) {
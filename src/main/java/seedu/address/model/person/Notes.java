@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's notes in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNotes(String)}
@@ -12,6 +14,7 @@ public class Notes {
     public static final String MESSAGE_CONSTRAINTS_CHARACTERS =
             "Notes should only contain printable characters";
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public static final int MAX_LENGTH = 100;
 
     public final String value;
@@ -22,11 +25,25 @@ public class Notes {
      * @param notes A valid notes string.
      */
     public Notes(String notes) {
+        this(notes, false);
+    }
+
+    private Notes(String notes, boolean isTrusted) {
         requireNonNull(notes);
-        isValidNotes(notes);
+        if (!isTrusted) {
+            isValidNotes(notes);
+        }
         this.value = notes;
     }
 
+    /**
+     * Returns a {@code Notes} of {@code notes} without validating it.
+     * Only for notes known to be valid, such as those read from a data file saved by this app.
+     */
+    public static Notes fromTrusted(String notes) {
+        return new Notes(notes, true);
+    }
+
     /**
      * Returns true if a given string is valid notes.
      * Empty string is considered valid as notes are optional.
@@ -38,7 +55,7 @@ public class Notes {
         if (test.length() > MAX_LENGTH) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS_LENGTH);
         }
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS_CHARACTERS);
         }
         return true;
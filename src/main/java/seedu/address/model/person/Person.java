@@ -1,34 +1,47 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * To keep large address books small in memory, a person holds the validated values of its fields rather than the
+ * value objects, and an absent optional field as {@code null}. The accessors wrap the values again on each call, so
+ * code that reads many persons uses the {@code get<Field>Value()} accessors instead, which return the values as held.
  */
 public class Person {
 
+    private static final int NO_BIRTHDAY = Integer.MIN_VALUE;
+
     // Identity fields
-    private final Name name;
-    private final Phone phone;
-    private final Email email;
-
-    // Data fields
-    private final Address address;
-    private final Optional<Birthday> birthday;
-    private final Optional<Relationship> relationship;
-    private final Optional<Nickname> nickname;
-    private final Optional<Notes> notes;
-    private final Set<Tag> tags = new HashSet<>();
+    private final String name;
+    private final String phone;
+    private final String email;
+
+    // Data fields, where absent optional fields are null or NO_BIRTHDAY
+    private final String address;
+    private final int birthdayEpochDay;
+    private final Relationship relationship;
+    private final String nickname;
+    private final String notes;
+    private final TagSet tags;
+
+    // computed on first use, as a person is immutable; 0 until then
+    private int hash;
 
     /**
      * Every field must be present and not null.
@@ -37,56 +50,127 @@ public class Person {
                   Optional<Relationship> relationship, Optional<Nickname> nickname, Optional<Notes> notes,
                   Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, tags);
+        this.name = name.fullName;
+        this.phone = phone.value;
+        this.email = email.value;
+        this.address = address.value;
+        this.birthdayEpochDay = birthday != null ? birthday.map(Birthday::toEpochDay).orElse(NO_BIRTHDAY) : NO_BIRTHDAY;
+        this.relationship = relationship != null ? relationship.map(Relationship::intern).orElse(null) : null;
+        this.nickname = nickname != null ? nickname.map(n -> n.nickname).orElse(null) : null;
+        this.notes = notes != null ? notes.map(n -> n.value).orElse(null) : null;
+        this.tags = TagSet.of(tags);
+    }
+
+    private Person(String name, String phone, String email, String address, int birthdayEpochDay,
+            Relationship relationship, String nickname, String notes, TagSet tags) {
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.birthday = birthday != null ? birthday : Optional.empty();
-        this.relationship = relationship != null ? relationship : Optional.empty();
+        this.birthdayEpochDay = birthdayEpochDay;
+        this.relationship = relationship;
         this.nickname = nickname;
         this.notes = notes;
-        this.tags.addAll(tags);
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a person with the given field values as held, without wrapping or validating them. An absent
+     * optional field is {@code null}, and an absent birthday is an empty {@code OptionalInt}. A relationship must be
+     * the canonical instance returned by {@link Relationship#intern()}.
+     * Only for values known to be valid, such as those read from a data file saved by this app.
+     */
+    public static Person fromTrusted(String name, String phone, String email, String address,
+            OptionalInt birthdayEpochDay, Relationship relationship, String nickname, String notes, Set<Tag> tags) {
+        requireAllNonNull(name, phone, email, address, birthdayEpochDay, tags);
+        assert relationship == null || relationship.intern() == relationship;
+        return new Person(name, phone, email, address, birthdayEpochDay.orElse(NO_BIRTHDAY), relationship,
+                nickname, notes, TagSet.of(tags));
+    }
+
+    /**
+     * Returns the value of {@code field} of this person.
+     */
+    public <T> T get(Field<T> field) {
+        requireNonNull(field);
+        return field.getter.apply(this);
+    }
+
+    /**
+     * Returns a copy of this person with {@code field} set to {@code value}, and every other field unchanged.
+     */
+    public <T> Person with(Field<T> field, T value) {
+        requireAllNonNull(field, value);
+        Builder builder = new Builder(this);
+        field.setter.accept(builder, value);
+        return builder.build();
     }
 
     public Name getName() {
+        return Name.fromTrusted(name);
+    }
+
+    public String getNameValue() {
         return name;
     }
 
     public Phone getPhone() {
+        return Phone.fromTrusted(phone);
+    }
+
+    public String getPhoneValue() {
         return phone;
     }
 
     public Email getEmail() {
+        return Email.fromTrusted(email);
+    }
+
+    public String getEmailValue() {
         return email;
     }
 
     public Address getAddress() {
+        return Address.fromTrusted(address);
+    }
+
+    public String getAddressValue() {
         return address;
     }
 
     public Optional<Birthday> getBirthday() {
-        return birthday;
+        if (birthdayEpochDay == NO_BIRTHDAY) {
+            return Optional.empty();
+        }
+        return Optional.of(Birthday.fromEpochDay(birthdayEpochDay));
+    }
+    /**
+     * Returns the birthday as held, the number of days from 1970-01-01 to it, without wrapping it in a
+     * {@code Birthday}.
+     */
+    public OptionalInt getBirthdayEpochDay() {
+        return birthdayEpochDay == NO_BIRTHDAY ? OptionalInt.empty() : OptionalInt.of(birthdayEpochDay);
     }
     public String getBirthdayValue() {
-        return birthday.map(Object::toString).orElse("");
+        return getBirthday().map(Object::toString).orElse("");
     }
     public Optional<Relationship> getRelationship() {
-        return relationship;
+        return Optional.ofNullable(relationship);
     }
     public String getRelationshipValue() {
-        return relationship.map(Object::toString).orElse("");
+        return relationship != null ? relationship.toString() : "";
     }
     public Optional<Nickname> getNickname() {
-        return nickname;
+        return Optional.ofNullable(nickname).map(Nickname::fromTrusted);
     }
     public String getNicknameValue() {
-        return nickname.map(Object::toString).orElse("");
+        return nickname != null ? nickname : "";
     }
     public Optional<Notes> getNotes() {
-        return notes;
+        return Optional.ofNullable(notes).map(Notes::fromTrusted);
     }
     public String getNotesValue() {
-        return notes.map(Object::toString).orElse("");
+        return notes != null ? notes : "";
     }
 
     /**
@@ -94,7 +178,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -107,7 +191,7 @@ public class Person {
         }
 
         return otherPerson != null
-                && otherPerson.getName().equals(getName());
+                && otherPerson.name.equals(name);
     }
 
     /**
@@ -126,36 +210,139 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        // persons with different hashes differ, and most persons compared differ
+        return hashCode() == otherPerson.hashCode()
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
-                && birthday.equals(otherPerson.birthday)
-                && relationship.equals(otherPerson.relationship)
-                && nickname.equals(otherPerson.nickname)
-                && notes.equals(otherPerson.notes)
+                && birthdayEpochDay == otherPerson.birthdayEpochDay
+                && Objects.equals(relationship, otherPerson.relationship)
+                && Objects.equals(nickname, otherPerson.nickname)
+                && Objects.equals(notes, otherPerson.notes)
                 && tags.equals(otherPerson.tags);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, birthday, relationship,
-                            nickname, notes, tags);
+        int h = hash;
+        if (h == 0) {
+            h = name.hashCode();
+            h = 31 * h + phone.hashCode();
+            h = 31 * h + email.hashCode();
+            h = 31 * h + address.hashCode();
+            h = 31 * h + birthdayEpochDay;
+            h = 31 * h + Objects.hashCode(relationship);
+            h = 31 * h + Objects.hashCode(nickname);
+            h = 31 * h + Objects.hashCode(notes);
+            h = 31 * h + tags.hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("name", name)
-                .add("phone", phone)
-                .add("email", email)
-                .add("address", address)
-                .add("birthday", birthday)
-                .add("relationship", relationship)
-                .add("nickname", nickname)
-                .add("notes", notes)
+                .add("name", getName())
+                .add("phone", getPhone())
+                .add("email", getEmail())
+                .add("address", getAddress())
+                .add("birthday", getBirthday())
+                .add("relationship", getRelationship())
+                .add("nickname", getNickname())
+                .add("notes", getNotes())
                 .add("tags", tags)
                 .toString();
     }
+
+    /**
+     * A field of a person, with the type of its value, to read a field with {@link #get(Field)} or replace it with
+     * {@link #with(Field, Object)} when which field is only known at run time.
+     */
+    public static final class Field<T> {
+        public static final Field<Name> NAME = new Field<>("name", Person::getName, person -> person.name,
+                (builder, name) -> builder.name = name.fullName);
+        public static final Field<Phone> PHONE = new Field<>("phone", Person::getPhone, person -> person.phone,
+                (builder, phone) -> builder.phone = phone.value);
+        public static final Field<Email> EMAIL = new Field<>("email", Person::getEmail, person -> person.email,
+                (builder, email) -> builder.email = email.value);
+        public static final Field<Address> ADDRESS = new Field<>("address", Person::getAddress,
+                person -> person.address, (builder, address) -> builder.address = address.value);
+        public static final Field<Optional<Birthday>> BIRTHDAY = new Field<>("birthday", Person::getBirthday,
+                person -> person.birthdayEpochDay, (builder, birthday) ->
+                        builder.birthdayEpochDay = birthday.map(Birthday::toEpochDay).orElse(NO_BIRTHDAY));
+        public static final Field<Optional<Relationship>> RELATIONSHIP = new Field<>("relationship",
+                Person::getRelationship, person -> person.relationship, (builder, relationship) ->
+                        builder.relationship = relationship.map(Relationship::intern).orElse(null));
+        public static final Field<Optional<Nickname>> NICKNAME = new Field<>("nickname", Person::getNickname,
+                person -> person.nickname, (builder, nickname) ->
+                        builder.nickname = nickname.map(n -> n.nickname).orElse(null));
+        public static final Field<Optional<Notes>> NOTES = new Field<>("notes", Person::getNotes,
+                person -> person.notes, (builder, notes) -> builder.notes = notes.map(n -> n.value).orElse(null));
+        public static final Field<Set<Tag>> TAGS = new Field<>("tags", Person::getTags, person -> person.tags,
+                (builder, tags) -> builder.tags = TagSet.of(tags));
+
+        /** Every field of a person, in the order they are declared. */
+        public static final List<Field<?>> ALL = List.of(NAME, PHONE, EMAIL, ADDRESS, BIRTHDAY, RELATIONSHIP,
+                NICKNAME, NOTES, TAGS);
+
+        private final String name;
+        private final Function<Person, T> getter;
+        // the value as held by a person, compared without wrapping it
+        private final Function<Person, Object> heldValue;
+        private final BiConsumer<Builder, T> setter;
+
+        private Field(String name, Function<Person, T> getter, Function<Person, Object> heldValue,
+                BiConsumer<Builder, T> setter) {
+            this.name = name;
+            this.getter = getter;
+            this.heldValue = heldValue;
+            this.setter = setter;
+        }
+
+        /**
+         * Returns true if {@code person} and {@code otherPerson} have the same value of this field.
+         */
+        public boolean isSameIn(Person person, Person otherPerson) {
+            requireAllNonNull(person, otherPerson);
+            return Objects.equals(heldValue.apply(person), heldValue.apply(otherPerson));
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * The field values of a person being copied, as held by a person.
+     */
+    private static class Builder {
+        private String name;
+        private String phone;
+        private String email;
+        private String address;
+        private int birthdayEpochDay;
+        private Relationship relationship;
+        private String nickname;
+        private String notes;
+        private TagSet tags;
+
+        private Builder(Person person) {
+            name = person.name;
+            phone = person.phone;
+            email = person.email;
+            address = person.address;
+            birthdayEpochDay = person.birthdayEpochDay;
+            relationship = person.relationship;
+            nickname = person.nickname;
+            notes = person.notes;
+            tags = person.tags;
+        }
+
+        private Person build() {
+            return new Person(name, phone, email, address, birthdayEpochDay, relationship, nickname, notes, tags);
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} matches the keywords given for each searched field.
+ * A person matches if, for every searched field, any of the keywords for that field matches the field
+ * as described in {@link SearchField}. No person matches if no field is searched.
+ */
+public class PersonContainsKeywordsPredicate implements Predicate<Person> {
+    private final Map<SearchField, List<String>> keywordsByField = new EnumMap<>(SearchField.class);
+
+    /**
+     * Creates a predicate that searches each field in {@code keywordsByField} for its keywords.
+     */
+    public PersonContainsKeywordsPredicate(Map<SearchField, List<String>> keywordsByField) {
+        requireNonNull(keywordsByField);
+        for (Map.Entry<SearchField, List<String>> entry : keywordsByField.entrySet()) {
+            this.keywordsByField.put(entry.getKey(), List.copyOf(entry.getValue()));
+        }
+    }
+
+    /**
+     * Creates a predicate that searches names only, as {@code NameContainsKeywordsPredicate} does.
+     */
+    public static PersonContainsKeywordsPredicate forNames(List<String> keywords) {
+        return new PersonContainsKeywordsPredicate(Map.of(SearchField.NAME, keywords));
+    }
+
+    public Map<SearchField, List<String>> getKeywordsByField() {
+        return Collections.unmodifiableMap(keywordsByField);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (keywordsByField.isEmpty()) {
+            return false;
+        }
+        for (Map.Entry<SearchField, List<String>> entry : keywordsByField.entrySet()) {
+            if (!entry.getKey().matches(person, entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        PersonContainsKeywordsPredicate otherPredicate = (PersonContainsKeywordsPredicate) other;
+        return keywordsByField.equals(otherPredicate.keywordsByField);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywordsByField.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywordsByField).toString();
+    }
+}
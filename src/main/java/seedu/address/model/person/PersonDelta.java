@@ -0,0 +1,117 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An edit of a person, kept as the edited person and the original values of only the fields that the edit changed.
+ * The edited person is usually still in the address book, so an edit kept for undoing it takes little more memory
+ * than the changed values, rather than a whole second copy of the person.
+ */
+public final class PersonDelta {
+
+    private final Person edited;
+    // bit i is set if the field at index i of Person.Field#ALL was changed
+    private final int changedFields;
+    // the original values of the changed fields, in field order
+    private final FieldValue<?>[] originalValues;
+
+    private PersonDelta(Person edited, int changedFields, FieldValue<?>[] originalValues) {
+        this.edited = edited;
+        this.changedFields = changedFields;
+        this.originalValues = originalValues;
+    }
+
+    /**
+     * Returns the edit that changes {@code original} into {@code edited}.
+     */
+    public static PersonDelta between(Person original, Person edited) {
+        requireAllNonNull(original, edited);
+        int changedFields = 0;
+        List<FieldValue<?>> originalValues = new ArrayList<>();
+        for (int i = 0; i < Person.Field.ALL.size(); i++) {
+            Person.Field<?> field = Person.Field.ALL.get(i);
+            if (!field.isSameIn(original, edited)) {
+                changedFields |= 1 << i;
+                originalValues.add(FieldValue.of(field, original));
+            }
+        }
+        return new PersonDelta(edited, changedFields, originalValues.toArray(new FieldValue<?>[0]));
+    }
+
+    public Person getEdited() {
+        return edited;
+    }
+
+    /**
+     * Returns a person equal to the one before the edit, rebuilt from the edited person.
+     */
+    public Person getOriginal() {
+        Person original = edited;
+        for (FieldValue<?> originalValue : originalValues) {
+            original = originalValue.setIn(original);
+        }
+        return original;
+    }
+
+    /**
+     * Returns the number of fields that the edit changed.
+     */
+    public int getChangedFieldCount() {
+        return originalValues.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonDelta)) {
+            return false;
+        }
+
+        PersonDelta otherDelta = (PersonDelta) other;
+        return edited.equals(otherDelta.edited) && getOriginal().equals(otherDelta.getOriginal());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(edited, changedFields);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("original", getOriginal())
+                .add("edited", edited)
+                .toString();
+    }
+
+    /**
+     * A field of a person together with a value of it.
+     */
+    private static final class FieldValue<T> {
+        private final Person.Field<T> field;
+        private final T value;
+
+        private FieldValue(Person.Field<T> field, T value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        static <T> FieldValue<T> of(Person.Field<T> field, Person person) {
+            return new FieldValue<>(field, person.get(field));
+        }
+
+        Person setIn(Person person) {
+            return person.with(field, value);
+        }
+    }
+}
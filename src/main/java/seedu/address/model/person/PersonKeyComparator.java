@@ -0,0 +1,264 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Compares persons by a sort key that is extracted once per person and cached, instead of on every comparison.
+ * Numeric keys are cached as primitives.
+ * <p>
+ * Keys are cached by person identity. As persons are immutable, a cached key stays valid for as long as the person is
+ * in the list. An edited person is a new instance, so only its key is computed when the list is sorted again. Keys of
+ * persons that leave the list should be dropped with {@link #evict(Person)}.
+ * <p>
+ * Persons with a {@code null} string key, or with the numeric key {@link #NO_KEY}, come after every person with
+ * a key, in either order.
+ */
+public class PersonKeyComparator implements Comparator<Person> {
+
+    /** The numeric key of a person that has none, such as a person without a birthday. */
+    public static final long NO_KEY = Long.MAX_VALUE;
+
+    private final ToLongFunction<Person> longKeyExtractor;
+    private final Function<Person, String> stringKeyExtractor;
+    private final KeyTable keys;
+    private final boolean isDescending;
+
+    private PersonKeyComparator(ToLongFunction<Person> longKeyExtractor, Function<Person, String> stringKeyExtractor,
+            KeyTable keys, boolean isDescending) {
+        this.longKeyExtractor = longKeyExtractor;
+        this.stringKeyExtractor = stringKeyExtractor;
+        this.keys = keys;
+        this.isDescending = isDescending;
+    }
+
+    /**
+     * Returns a comparator of persons by the numeric key that {@code keyExtractor} returns.
+     */
+    public static PersonKeyComparator comparingLong(ToLongFunction<Person> keyExtractor) {
+        requireNonNull(keyExtractor);
+        return new PersonKeyComparator(keyExtractor, null, new KeyTable(false), false);
+    }
+
+    /**
+     * Returns a comparator of persons by the string key that {@code keyExtractor} returns, which may be null.
+     */
+    public static PersonKeyComparator comparingString(Function<Person, String> keyExtractor) {
+        requireNonNull(keyExtractor);
+        return new PersonKeyComparator(null, keyExtractor, new KeyTable(true), false);
+    }
+
+    /**
+     * Returns a comparator of persons by the days from {@code today} until their next birthday.
+     * Persons without a birthday come after every person with one, also when {@link #reversed() reversed}.
+     */
+    public static PersonKeyComparator byUpcomingBirthday(LocalDate today) {
+        BirthdayCalendar calendar = new BirthdayCalendar(today);
+        return comparingLong(person -> person.getBirthday().isPresent()
+                ? calendar.getDaysUntil(person.getBirthday().get())
+                : NO_KEY);
+    }
+
+    /**
+     * Returns a comparator of persons by name, ignoring case.
+     */
+    public static PersonKeyComparator byName() {
+        return comparingString(person -> person.getNameValue().toLowerCase());
+    }
+
+    /**
+     * Returns a comparator of persons by relationship, ignoring case.
+     * Persons without a relationship come after every person with one, also when {@link #reversed() reversed}.
+     */
+    public static PersonKeyComparator byRelationship() {
+        return comparingString(person -> person.getRelationship().isPresent()
+                ? person.getRelationship().get().relationship.toLowerCase()
+                : null);
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        if (longKeyExtractor != null) {
+            long firstKey = keys.getLongKey(first, longKeyExtractor);
+            long secondKey = keys.getLongKey(second, longKeyExtractor);
+            if (firstKey == NO_KEY || secondKey == NO_KEY) {
+                return Boolean.compare(firstKey == NO_KEY, secondKey == NO_KEY);
+            }
+            return isDescending ? Long.compare(secondKey, firstKey) : Long.compare(firstKey, secondKey);
+        }
+
+        String firstKey = keys.getStringKey(first, stringKeyExtractor);
+        String secondKey = keys.getStringKey(second, stringKeyExtractor);
+        if (firstKey == null || secondKey == null) {
+            return Boolean.compare(firstKey == null, secondKey == null);
+        }
+        return isDescending ? secondKey.compareTo(firstKey) : firstKey.compareTo(secondKey);
+    }
+
+    /**
+     * Returns a comparator in the reverse order, which shares the keys cached by this comparator.
+     */
+    @Override
+    public PersonKeyComparator reversed() {
+        return new PersonKeyComparator(longKeyExtractor, stringKeyExtractor, keys, !isDescending);
+    }
+
+    /**
+     * Computes the keys of {@code persons} that are not cached yet.
+     */
+    public void precompute(Iterable<Person> persons) {
+        for (Person person : persons) {
+            if (longKeyExtractor != null) {
+                keys.getLongKey(person, longKeyExtractor);
+            } else {
+                keys.getStringKey(person, stringKeyExtractor);
+            }
+        }
+    }
+
+    /**
+     * Drops the cached key of {@code person}, if any.
+     */
+    public void evict(Person person) {
+        keys.remove(person);
+    }
+
+    /**
+     * Returns the number of cached keys.
+     */
+    int getCachedKeyCount() {
+        return keys.size;
+    }
+
+    /**
+     * An open-addressing table from persons, compared by identity, to their keys.
+     * Collisions are resolved by linear probing, and removals shift later entries back so that no slot is wasted.
+     */
+    private static class KeyTable {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final boolean hasStringKeys;
+        private Person[] persons = new Person[INITIAL_CAPACITY];
+        private long[] longKeys;
+        private String[] stringKeys;
+        private int size;
+
+        KeyTable(boolean hasStringKeys) {
+            this.hasStringKeys = hasStringKeys;
+            if (hasStringKeys) {
+                stringKeys = new String[INITIAL_CAPACITY];
+            } else {
+                longKeys = new long[INITIAL_CAPACITY];
+            }
+        }
+
+        long getLongKey(Person person, ToLongFunction<Person> keyExtractor) {
+            int slot = findSlot(person);
+            if (persons[slot] == null) {
+                slot = insert(person, slot);
+                longKeys[slot] = keyExtractor.applyAsLong(person);
+            }
+            return longKeys[slot];
+        }
+
+        String getStringKey(Person person, Function<Person, String> keyExtractor) {
+            int slot = findSlot(person);
+            if (persons[slot] == null) {
+                slot = insert(person, slot);
+                stringKeys[slot] = keyExtractor.apply(person);
+            }
+            return stringKeys[slot];
+        }
+
+        void remove(Person person) {
+            int slot = findSlot(person);
+            if (persons[slot] == null) {
+                return;
+            }
+            persons[slot] = null;
+            size--;
+
+            // moves back each later entry of the same run that would no longer be found past the emptied slot
+            int mask = persons.length - 1;
+            int emptySlot = slot;
+            for (int next = (slot + 1) & mask; persons[next] != null; next = (next + 1) & mask) {
+                int home = getHomeSlot(persons[next], mask);
+                if (((next - home) & mask) >= ((next - emptySlot) & mask)) {
+                    moveEntry(next, emptySlot);
+                    emptySlot = next;
+                }
+            }
+        }
+
+        /**
+         * Returns the slot of {@code person}, or the empty slot where it would be inserted.
+         */
+        private int findSlot(Person person) {
+            int mask = persons.length - 1;
+            int slot = getHomeSlot(person, mask);
+            while (persons[slot] != null && persons[slot] != person) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * Inserts {@code person} at the empty {@code slot}, growing the table first if it would be more than half
+         * full, and returns the slot it is inserted at.
+         */
+        private int insert(Person person, int slot) {
+            if (2 * (size + 1) > persons.length) {
+                grow();
+                slot = findSlot(person);
+            }
+            persons[slot] = person;
+            size++;
+            return slot;
+        }
+
+        private void grow() {
+            Person[] oldPersons = persons;
+            long[] oldLongKeys = longKeys;
+            String[] oldStringKeys = stringKeys;
+            persons = new Person[oldPersons.length * 2];
+            if (hasStringKeys) {
+                stringKeys = new String[persons.length];
+            } else {
+                longKeys = new long[persons.length];
+            }
+
+            for (int i = 0; i < oldPersons.length; i++) {
+                if (oldPersons[i] == null) {
+                    continue;
+                }
+                int slot = findSlot(oldPersons[i]);
+                persons[slot] = oldPersons[i];
+                if (hasStringKeys) {
+                    stringKeys[slot] = oldStringKeys[i];
+                } else {
+                    longKeys[slot] = oldLongKeys[i];
+                }
+            }
+        }
+
+        private void moveEntry(int from, int to) {
+            persons[to] = persons[from];
+            persons[from] = null;
+            if (hasStringKeys) {
+                stringKeys[to] = stringKeys[from];
+                stringKeys[from] = null;
+            } else {
+                longKeys[to] = longKeys[from];
+            }
+        }
+
+        private static int getHomeSlot(Person person, int mask) {
+            int hash = System.identityHashCode(person);
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The persons taken from a {@link UniquePersonList} when it was cleared, together with the indexes it kept of them,
+ * so that they can be put back without copying or indexing any person again.
+ * A snapshot shares the persons with the list it was taken from, and can only be restored once.
+ */
+public final class PersonListSnapshot {
+
+    final Map<String, Person> personsByName;
+    final PersonSearchIndex searchIndex;
+    final BirthdayIndex birthdayIndex;
+    final PersonPositionIndex positionIndex;
+
+    // null once restored
+    private List<Person> persons;
+
+    PersonListSnapshot(List<Person> persons, Map<String, Person> personsByName, PersonSearchIndex searchIndex,
+            BirthdayIndex birthdayIndex, PersonPositionIndex positionIndex) {
+        this.persons = persons;
+        this.personsByName = personsByName;
+        this.searchIndex = searchIndex;
+        this.birthdayIndex = birthdayIndex;
+        this.positionIndex = positionIndex;
+    }
+
+    /**
+     * Returns the number of persons taken.
+     */
+    public int size() {
+        return personsByName.size();
+    }
+
+    /**
+     * Returns the persons taken, in the order they were listed, handing them over to the list they are restored to.
+     */
+    List<Person> takePersons() {
+        assert persons != null : "a snapshot can only be restored once";
+        List<Person> taken = persons;
+        persons = null;
+        return taken;
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the positions of the persons in a list, looked up by identity, so that a person can be found in the
+ * list without comparing it with the persons before it.
+ * <p>
+ * Removing a person shifts the persons after it, so positions are only known to be up to date before the first
+ * position removed since the last lookup. The later ones are brought up to date by the next lookup that needs one of
+ * them, in a single pass over the rest of the list like the shift itself. The index is built on its first lookup,
+ * so replacing the whole list costs nothing until a person is looked up.
+ */
+class PersonPositionIndex {
+
+    private Map<Person, Integer> positions = new IdentityHashMap<>();
+    private boolean isBuilt;
+    private int upToDateCount;
+
+    /**
+     * Returns the position of {@code person} in {@code persons}, or -1 if the very same instance is not in it.
+     * {@code persons} must be the list whose every change this index was informed of.
+     */
+    int indexOf(Person person, List<Person> persons) {
+        if (!isBuilt) {
+            build(persons);
+        }
+        Integer position = positions.get(person);
+        if (position == null) {
+            return -1;
+        }
+        if (position >= upToDateCount) {
+            update(persons);
+            position = positions.get(person);
+        }
+        return position;
+    }
+
+    /**
+     * Records that {@code person} was inserted at {@code position}, which must be the end of the list.
+     */
+    void add(Person person, int position) {
+        if (!isBuilt) {
+            return;
+        }
+        positions.put(person, position);
+        if (upToDateCount == position) {
+            upToDateCount++;
+        }
+    }
+
+    /**
+     * Records that {@code replaced} was replaced by {@code replacement} at {@code position}.
+     */
+    void replace(Person replaced, Person replacement, int position) {
+        if (!isBuilt) {
+            return;
+        }
+        positions.remove(replaced);
+        positions.put(replacement, position);
+    }
+
+    /**
+     * Records that {@code removed} was removed from {@code position}.
+     */
+    void remove(Person removed, int position) {
+        if (!isBuilt) {
+            return;
+        }
+        positions.remove(removed);
+        upToDateCount = Math.min(upToDateCount, position);
+    }
+
+    /**
+     * Records that {@code removed} were removed from anywhere in the list.
+     */
+    void removeAll(Collection<Person> removed) {
+        if (!isBuilt) {
+            return;
+        }
+        for (Person person : removed) {
+            positions.remove(person);
+        }
+        upToDateCount = 0;
+    }
+
+    /**
+     * Records that the whole list was replaced.
+     */
+    void clear() {
+        positions = new IdentityHashMap<>();
+        isBuilt = false;
+        upToDateCount = 0;
+    }
+
+    private void build(List<Person> persons) {
+        positions = new IdentityHashMap<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i), i);
+        }
+        isBuilt = true;
+        upToDateCount = persons.size();
+    }
+
+    private void update(List<Person> persons) {
+        for (int i = upToDateCount; i < persons.size(); i++) {
+            positions.put(persons.get(i), i);
+        }
+        upToDateCount = persons.size();
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index from the lowercase words in each {@link SearchField} of persons to the persons, so that the persons
+ * matching a {@link PersonContainsKeywordsPredicate} can be found without testing every person.
+ * The persons under each word are kept in a set compared by identity, so that a person is removed in constant time
+ * however many persons share the word.
+ * Also maintains a {@link TrigramIndex} of names and nicknames for {@link FuzzyNameQuery}s.
+ */
+class PersonSearchIndex {
+
+    private final Map<SearchField, TreeMap<String, Set<Person>>> personsByWord = new EnumMap<>(SearchField.class);
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+
+    PersonSearchIndex() {
+        for (SearchField field : SearchField.values()) {
+            personsByWord.put(field, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code person} under each word in each of its fields.
+     */
+    void add(Person person) {
+        for (SearchField field : SearchField.values()) {
+            TreeMap<String, Set<Person>> index = personsByWord.get(field);
+            for (String word : field.tokenize(person)) {
+                index.computeIfAbsent(word, unused -> newIdentitySet(1)).add(person);
+            }
+        }
+        trigramIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added, from under each word in each of its
+     * fields.
+     */
+    void remove(Person person) {
+        for (SearchField field : SearchField.values()) {
+            TreeMap<String, Set<Person>> index = personsByWord.get(field);
+            for (String word : field.tokenize(person)) {
+                Set<Person> persons = index.get(word);
+                assert persons != null;
+                persons.remove(person);
+                if (persons.isEmpty()) {
+                    index.remove(word);
+                }
+            }
+        }
+        trigramIndex.remove(person);
+    }
+
+    /**
+     * Removes {@code removed}, a set of the same instances that were added compared by identity.
+     */
+    void removeAll(Set<Person> removed) {
+        for (SearchField field : SearchField.values()) {
+            TreeMap<String, Set<Person>> index = personsByWord.get(field);
+            Set<String> words = new HashSet<>();
+            for (Person person : removed) {
+                words.addAll(field.tokenize(person));
+            }
+            for (String word : words) {
+                Set<Person> persons = index.get(word);
+                assert persons != null;
+                persons.removeAll(removed);
+                if (persons.isEmpty()) {
+                    index.remove(word);
+                }
+            }
+        }
+        trigramIndex.removeAll(removed);
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     * The persons of each word are grouped in a hash map first, and the words are then inserted into the sorted index
+     * in order, which is much faster for a large list than adding the persons one by one.
+     */
+    void setAll(Collection<Person> persons) {
+        for (SearchField field : SearchField.values()) {
+            Map<String, Set<Person>> personsByFieldWord = new HashMap<>();
+            for (Person person : persons) {
+                for (String word : field.tokenize(person)) {
+                    personsByFieldWord.computeIfAbsent(word, unused -> newIdentitySet(1)).add(person);
+                }
+            }
+            List<String> words = new ArrayList<>(personsByFieldWord.keySet());
+            Collections.sort(words);
+            TreeMap<String, Set<Person>> index = new TreeMap<>();
+            for (String word : words) {
+                index.put(word, personsByFieldWord.get(word));
+            }
+            personsByWord.put(field, index);
+        }
+        trigramIndex.clear();
+        for (Person person : persons) {
+            trigramIndex.add(person);
+        }
+    }
+
+    /**
+     * Returns the persons that {@code predicate} accepts. The returned set compares persons by identity.
+     */
+    Set<Person> find(PersonContainsKeywordsPredicate predicate) {
+        Set<Person> matches = null;
+        for (Map.Entry<SearchField, List<String>> entry : predicate.getKeywordsByField().entrySet()) {
+            Set<Person> fieldMatches = findByPrefixes(entry.getKey(), entry.getValue());
+            if (matches == null) {
+                matches = fieldMatches;
+            } else {
+                matches.retainAll(fieldMatches);
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+        return matches == null ? newIdentitySet(0) : matches;
+    }
+
+    /**
+     * Returns the persons matching {@code query}, most similar first, up to the query's limit.
+     */
+    List<Person> findSimilar(FuzzyNameQuery query) {
+        return trigramIndex.find(query);
+    }
+
+    /**
+     * Returns the persons with a word in {@code field} starting with any of {@code prefixes}, ignoring case.
+     */
+    private Set<Person> findByPrefixes(SearchField field, List<String> prefixes) {
+        TreeMap<String, Set<Person>> index = personsByWord.get(field);
+        Set<Person> matches = newIdentitySet(0);
+        for (String prefix : prefixes) {
+            String lowerCasePrefix = prefix.toLowerCase();
+            // every word starting with the prefix sorts between the prefix and the prefix followed by MAX_VALUE
+            for (Set<Person> persons : index
+                    .subMap(lowerCasePrefix, true, lowerCasePrefix + Character.MAX_VALUE, false).values()) {
+                matches.addAll(persons);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an empty set that compares persons by identity, sized for {@code expectedSize} persons.
+     */
+    private static Set<Person> newIdentitySet(int expectedSize) {
+        return Collections.newSetFromMap(new IdentityHashMap<>(expectedSize));
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.model.util.Interner;
+
 // ATTRIBUTION: this code was adapted from the Tag.java class created by Yijin, Liang,
 // Yong, Tan, Ullas, Rajapakse and Izq.
 
@@ -14,6 +18,8 @@ public class Relationship {
 
     public static final String MESSAGE_CONSTRAINTS = "Relationships should have alphanumeric characters.";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}\\s-]+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<Relationship> RELATIONSHIPS = new Interner<>();
     public final String relationship;
 
     /**
@@ -22,10 +28,30 @@ public class Relationship {
      * @param relationship A valid relationship to user.
      */
     public Relationship(String relationship) {
+        this(relationship, false);
+    }
+
+    private Relationship(String relationship, boolean isTrusted) {
         requireNonNull(relationship);
-        checkArgument(isValidRelationship(relationship), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidRelationship(relationship), MESSAGE_CONSTRAINTS);
         this.relationship = relationship;
     }
+
+    /**
+     * Returns a {@code Relationship} of {@code relationship} without validating it.
+     * Only for relationships known to be valid, such as those read from a data file saved by this app.
+     */
+    public static Relationship fromTrusted(String relationship) {
+        return new Relationship(relationship, true);
+    }
+
+    /**
+     * Returns the canonical instance of this relationship, which is shared by every person with an equal one.
+     */
+    public Relationship intern() {
+        return RELATIONSHIPS.intern(this);
+    }
+
     public String getRelationshipString() {
         return relationship;
     }
@@ -34,7 +60,7 @@ public class Relationship {
      * Returns true if a given string is a valid relationship.
      */
     public static boolean isValidRelationship(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
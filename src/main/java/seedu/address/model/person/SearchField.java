@@ -0,0 +1,129 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * A field of a {@code Person} that can be searched by keywords.
+ * Each field is split into lowercase words, and a keyword matches a field if it is a prefix of any of its words,
+ * ignoring case.
+ */
+public enum SearchField {
+    /** The words in the name, split at whitespace as in {@link NameContainsKeywordsPredicate}. */
+    NAME(person -> splitAtWhitespace(person.getNameValue())),
+    /** The phone number as a whole, so that it can be found by its leading digits. */
+    PHONE(person -> Set.of(person.getPhoneValue())),
+    /** The local part and the domain of the email address. */
+    EMAIL(person -> splitEmail(person.getEmailValue())),
+    /** The words in the address, split at any character that is not a letter or digit. */
+    ADDRESS(person -> splitIntoWords(person.getAddressValue())),
+    NICKNAME(person -> splitIntoWords(person.getNicknameValue())),
+    NOTES(person -> splitIntoWords(person.getNotesValue())),
+    /** The tag names as a whole. */
+    TAG(person -> {
+        Set<String> tagNames = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            tagNames.add(tag.tagName.toLowerCase());
+        }
+        return tagNames;
+    }),
+    RELATIONSHIP(person -> splitIntoWords(person.getRelationshipValue()));
+
+    private final Function<Person, Set<String>> tokenizer;
+
+    SearchField(Function<Person, Set<String>> tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    /**
+     * Returns the distinct lowercase words of this field of {@code person}, which are empty if the field is not set.
+     */
+    public Set<String> tokenize(Person person) {
+        return tokenizer.apply(person);
+    }
+
+    /**
+     * Returns true if any of {@code keywords} is a prefix of a word of this field of {@code person}, ignoring case.
+     */
+    public boolean matches(Person person, Iterable<String> keywords) {
+        Set<String> words = tokenize(person);
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = keyword.toLowerCase();
+            for (String word : words) {
+                if (word.startsWith(lowerCaseKeyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> splitAtWhitespace(String value) {
+        return split(value.toLowerCase(), false);
+    }
+
+    private static Set<String> splitIntoWords(String value) {
+        return split(value.toLowerCase(), true);
+    }
+
+    /**
+     * Returns the distinct non-empty words of {@code value} separated by whitespace, or by any character that is not
+     * a letter or digit if {@code isSplitAtNonWordCharacters}.
+     * This scans {@code value} once, which is faster than splitting it with a regex.
+     */
+    private static Set<String> split(String value, boolean isSplitAtNonWordCharacters) {
+        Set<String> words = new HashSet<>();
+        int wordStart = 0;
+        int i = 0;
+        while (i < value.length()) {
+            int codePoint = value.codePointAt(i);
+            int next = i + Character.charCount(codePoint);
+            if (isSplitAtNonWordCharacters ? !isWordCharacter(codePoint) : isWhitespace(codePoint)) {
+                if (i > wordStart) {
+                    words.add(value.substring(wordStart, i));
+                }
+                wordStart = next;
+            }
+            i = next;
+        }
+        if (i > wordStart) {
+            words.add(value.substring(wordStart, i));
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if {@code codePoint} is matched by {@code \s} in a regex.
+     */
+    private static boolean isWhitespace(int codePoint) {
+        return codePoint == ' ' || (codePoint >= '\t' && codePoint <= '\r');
+    }
+
+    /**
+     * Returns true if {@code codePoint} is matched by {@code [\p{L}\p{N}]} in a regex.
+     */
+    private static boolean isWordCharacter(int codePoint) {
+        if (codePoint < 0x80) {
+            return (codePoint >= 'a' && codePoint <= 'z') || (codePoint >= 'A' && codePoint <= 'Z')
+                    || (codePoint >= '0' && codePoint <= '9');
+        }
+        switch (Character.getType(codePoint)) {
+        case Character.DECIMAL_DIGIT_NUMBER:
+        case Character.LETTER_NUMBER:
+        case Character.OTHER_NUMBER:
+            return true;
+        default:
+            return Character.isLetter(codePoint);
+        }
+    }
+
+    private static Set<String> splitEmail(String value) {
+        String lowerCaseValue = value.toLowerCase();
+        int at = lowerCaseValue.lastIndexOf('@');
+        return new HashSet<>(Arrays.asList(lowerCaseValue.substring(0, at), lowerCaseValue.substring(at + 1)));
+    }
+}
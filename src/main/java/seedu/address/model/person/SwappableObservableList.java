@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list backed by a plain list that can be swapped out or in as a whole, so that the list is emptied or
+ * filled in constant time however many elements it holds. Listeners are still told of every element removed or added,
+ * in a single change.
+ */
+final class SwappableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private List<E> elements = new ArrayList<>();
+
+    /**
+     * Empties the list, and returns the list that backed it, which is no longer used by this list.
+     */
+    List<E> swapOut() {
+        List<E> swappedOut = elements;
+        elements = new ArrayList<>();
+        if (!swappedOut.isEmpty()) {
+            beginChange();
+            nextRemove(0, swappedOut);
+            endChange();
+        }
+        return swappedOut;
+    }
+
+    /**
+     * Replaces every element of the list with {@code replacement}, which backs the list from now on and must not be
+     * changed other than through this list.
+     */
+    void swapIn(List<E> replacement) {
+        requireNonNull(replacement);
+        List<E> swappedOut = elements;
+        elements = replacement;
+        if (!swappedOut.isEmpty() || !replacement.isEmpty()) {
+            beginChange();
+            nextReplace(0, replacement.size(), swappedOut);
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    // removing the elements one at a time from the front, as the base class does, takes quadratic time
+
+    @Override
+    public void clear() {
+        swapOut();
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        swapIn(new ArrayList<>(col));
+        return true;
+    }
+}
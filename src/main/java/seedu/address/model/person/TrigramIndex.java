@@ -0,0 +1,126 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from the trigrams of the words in persons' names and nicknames to those words, so that the persons
+ * matching a {@link FuzzyNameQuery} can be scored by counting shared trigrams, without comparing the keywords
+ * against every person.
+ * The words under each trigram are grouped by person, compared by identity, so that a person is removed in constant
+ * time however many words share the trigram.
+ */
+class TrigramIndex {
+
+    /**
+     * A word of a person, with the number of trigrams in the word.
+     */
+    private static class IndexedWord {
+        private final Person person;
+        private final int trigramCount;
+
+        IndexedWord(Person person, int trigramCount) {
+            this.person = person;
+            this.trigramCount = trigramCount;
+        }
+    }
+
+    private final Map<String, Map<Person, List<IndexedWord>>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Adds the words in the name and nickname of {@code person}.
+     */
+    void add(Person person) {
+        for (String word : FuzzyNameQuery.getSearchedWords(person)) {
+            Set<String> trigrams = FuzzyNameQuery.getTrigrams(word);
+            IndexedWord indexedWord = new IndexedWord(person, trigrams.size());
+            for (String trigram : trigrams) {
+                wordsByTrigram.computeIfAbsent(trigram, unused -> new IdentityHashMap<>(1))
+                        .computeIfAbsent(person, unused -> new ArrayList<>(1)).add(indexedWord);
+            }
+        }
+    }
+
+    /**
+     * Removes the words of {@code person}, which must be the same instance that was added.
+     */
+    void remove(Person person) {
+        // words of the same person can share trigrams, whose entries are all removed at once
+        Set<String> trigrams = new HashSet<>();
+        for (String word : FuzzyNameQuery.getSearchedWords(person)) {
+            trigrams.addAll(FuzzyNameQuery.getTrigrams(word));
+        }
+        for (String trigram : trigrams) {
+            Map<Person, List<IndexedWord>> words = wordsByTrigram.get(trigram);
+            assert words != null;
+            words.remove(person);
+            if (words.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes the words of {@code removed}, a set of the same instances that were added compared by identity.
+     */
+    void removeAll(Set<Person> removed) {
+        // words of the same or different persons can share trigrams, whose entries are all removed at once
+        Set<String> trigrams = new HashSet<>();
+        for (Person person : removed) {
+            for (String word : FuzzyNameQuery.getSearchedWords(person)) {
+                trigrams.addAll(FuzzyNameQuery.getTrigrams(word));
+            }
+        }
+        for (String trigram : trigrams) {
+            Map<Person, List<IndexedWord>> words = wordsByTrigram.get(trigram);
+            assert words != null;
+            words.keySet().removeAll(removed);
+            if (words.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    void clear() {
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the persons matching {@code query}, most similar first, up to the query's limit.
+     * Only the words sharing a trigram with a keyword are visited.
+     */
+    List<Person> find(FuzzyNameQuery query) {
+        List<String> keywords = query.getKeywords();
+        // the total score of the keywords for each person, which is averaged once every keyword is scored
+        Map<Person, Double> similarities = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            Set<String> keywordTrigrams = FuzzyNameQuery.getTrigrams(keyword);
+            Map<IndexedWord, Integer> sharedCounts = new IdentityHashMap<>();
+            for (String trigram : keywordTrigrams) {
+                for (List<IndexedWord> words : wordsByTrigram.getOrDefault(trigram, Map.of()).values()) {
+                    for (IndexedWord word : words) {
+                        sharedCounts.merge(word, 1, Integer::sum);
+                    }
+                }
+            }
+
+            Map<Person, Double> bestScores = new IdentityHashMap<>();
+            for (Map.Entry<IndexedWord, Integer> entry : sharedCounts.entrySet()) {
+                IndexedWord word = entry.getKey();
+                double score = FuzzyNameQuery.getDiceCoefficient(entry.getValue(), keywordTrigrams.size(),
+                        word.trigramCount);
+                bestScores.merge(word.person, score, Math::max);
+            }
+            for (Map.Entry<Person, Double> entry : bestScores.entrySet()) {
+                similarities.merge(entry.getKey(), entry.getValue(), Double::sum);
+            }
+        }
+        similarities.replaceAll((person, totalScore) -> totalScore / keywords.size());
+        return query.selectTopMatches(similarities);
+    }
+}
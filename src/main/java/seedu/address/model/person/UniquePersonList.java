@@ -3,8 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,22 +27,42 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by name so that identity checks do not need to scan the whole list, and by the words in
+ * their fields so that persons can be found by keywords without testing every person, and by the day of their
+ * birthday so that the next birthdays can be found without sorting every person. The position of each person in the
+ * list is indexed too, so that replacing or removing a person does not need to compare it with the persons before
+ * it.
+ *
+ * Clearing the list hands its persons over to a {@link PersonListSnapshot} together with their indexes, which can be
+ * put back as they are, so that clearing the list can be undone without copying or indexing any person again.
+ *
+ * Changes can be made in a batch between {@link #beginChanges()} and {@link #commitChanges()}, which are only shown in
+ * the observable list when the batch is committed, as a single change to it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final SwappableObservableList<Person> internalList = new SwappableObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // the indexes are handed over whole to a snapshot when the list is cleared, so they are not final
+    private Map<String, Person> personsByName = new HashMap<>();
+    private PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private BirthdayIndex birthdayIndex = new BirthdayIndex();
+    private PersonPositionIndex positionIndex = new PersonPositionIndex();
+
+    // the persons as changed in the current batch, shown in internalList once committed; null outside a batch
+    private List<Person> pendingList;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getNameValue());
     }
 
     /**
@@ -45,7 +74,12 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        List<Person> persons = getCurrentList();
+        persons.add(toAdd);
+        positionIndex.add(toAdd, persons.size() - 1);
+        personsByName.put(toAdd.getNameValue(), toAdd);
+        searchIndex.add(toAdd);
+        birthdayIndex.add(toAdd);
     }
 
     /**
@@ -56,7 +90,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +99,14 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = getCurrentList().set(index, editedPerson);
+        positionIndex.replace(replaced, editedPerson, index);
+        personsByName.remove(target.getNameValue());
+        personsByName.put(editedPerson.getNameValue(), editedPerson);
+        searchIndex.remove(replaced);
+        searchIndex.add(editedPerson);
+        birthdayIndex.remove(replaced);
+        birthdayIndex.add(editedPerson);
     }
 
     /**
@@ -74,39 +115,262 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = getCurrentList().remove(index);
+        positionIndex.remove(removed, index);
+        personsByName.remove(removed.getNameValue());
+        searchIndex.remove(removed);
+        birthdayIndex.remove(removed);
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list, as a single change to the list.
+     * Every person must exist in the list, or none is removed.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : toRemove) {
+            Person existing = getEquivalentPerson(person);
+            if (existing == null) {
+                throw new PersonNotFoundException();
+            }
+            removed.add(existing);
+        }
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        getCurrentList().removeAll(removed);
+        positionIndex.removeAll(removed);
+        searchIndex.removeAll(removed);
+        for (Person person : removed) {
+            personsByName.remove(person.getNameValue());
+            birthdayIndex.remove(person);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        List<Person> persons = replacement.getCurrentList();
+        setCurrentList(persons);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        searchIndex.setAll(persons);
+        setAllBirthdays(persons);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every name shared by more than one person in {@code persons}.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<String, Person> replacementByName = indexUniquePersons(persons);
+
+        setCurrentList(persons);
+        personsByName.clear();
+        personsByName.putAll(replacementByName);
+        searchIndex.setAll(persons);
+        setAllBirthdays(persons);
+    }
+
+    /**
+     * Removes every person from the list, and returns them as a snapshot that {@link #restore(PersonListSnapshot)}
+     * can put back. The persons and their indexes are handed over to the snapshot rather than copied, in constant
+     * time however many persons the list holds.
+     */
+    public PersonListSnapshot clear() {
+        PersonListSnapshot snapshot;
+        if (pendingList != null) {
+            snapshot = new PersonListSnapshot(pendingList, personsByName, searchIndex, birthdayIndex, positionIndex);
+            pendingList = new ArrayList<>();
+        } else {
+            snapshot = new PersonListSnapshot(internalList.swapOut(), personsByName, searchIndex, birthdayIndex,
+                    positionIndex);
         }
+        personsByName = new HashMap<>();
+        searchIndex = new PersonSearchIndex();
+        birthdayIndex = new BirthdayIndex();
+        positionIndex = new PersonPositionIndex();
+        return snapshot;
+    }
 
-        internalList.setAll(persons);
+    /**
+     * Puts back the persons taken from this list by the {@link #clear()} that returned {@code snapshot}, with their
+     * indexes as they were. The list must be empty, and a snapshot can only be restored once.
+     */
+    public void restore(PersonListSnapshot snapshot) {
+        requireNonNull(snapshot);
+        assert getCurrentList().isEmpty() : "only an empty list can be restored";
+
+        List<Person> persons = snapshot.takePersons();
+        personsByName = snapshot.personsByName;
+        searchIndex = snapshot.searchIndex;
+        birthdayIndex = snapshot.birthdayIndex;
+        positionIndex = snapshot.positionIndex;
+        if (pendingList != null) {
+            pendingList = persons;
+        } else {
+            internalList.swapIn(persons);
+        }
+    }
+
+    /**
+     * Starts a batch of changes, which are not shown in the observable list until {@link #commitChanges()}.
+     * Every other operation sees the changes as they are made.
+     */
+    public void beginChanges() {
+        assert pendingList == null : "batches of changes cannot be nested";
+        pendingList = new ArrayList<>(internalList);
+    }
+
+    /**
+     * Shows the changes made since {@link #beginChanges()} in the observable list, as a single change to it.
+     * The change only removes or only appends persons if that is all the batch did, and replaces every person
+     * otherwise.
+     */
+    public void commitChanges() {
+        assert pendingList != null : "no batch of changes was begun";
+        List<Person> persons = pendingList;
+        pendingList = null;
+
+        int keptCount = 0;
+        int minSize = Math.min(persons.size(), internalList.size());
+        while (keptCount < minSize && persons.get(keptCount) == internalList.get(keptCount)) {
+            keptCount++;
+        }
+        if (keptCount == internalList.size()) {
+            if (persons.size() > keptCount) {
+                internalList.addAll(persons.subList(keptCount, persons.size()));
+            }
+            return;
+        }
+
+        Set<Person> removed = getRemovedPersons(internalList, persons);
+        if (removed != null) {
+            internalList.removeAll(removed);
+        } else {
+            internalList.swapIn(persons);
+        }
+    }
+
+    /**
+     * Returns the persons in the list that {@code predicate} accepts, looked up in the index.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> find(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return searchIndex.find(predicate);
+    }
+
+    /**
+     * Returns the persons in the list that match {@code query}, most similar first, looked up in the index.
+     */
+    public List<Person> findSimilar(FuzzyNameQuery query) {
+        requireNonNull(query);
+        return searchIndex.findSimilar(query);
+    }
+
+    /**
+     * Returns up to {@code count} persons with the next birthdays from {@code today}, soonest first.
+     * Only the persons returned and the days up to their birthdays are visited.
+     */
+    public List<Person> getUpcomingBirthdays(LocalDate today, int count) {
+        requireNonNull(today);
+        return birthdayIndex.getUpcoming(new BirthdayCalendar(today), count);
+    }
+
+    /**
+     * Returns the persons with birthdays less than {@code days} days from {@code today}, soonest first.
+     * Only the persons returned and the days up to their birthdays are visited.
+     */
+    public List<Person> getBirthdaysWithin(LocalDate today, int days) {
+        requireNonNull(today);
+        return birthdayIndex.getWithin(new BirthdayCalendar(today), days);
+    }
+
+    /**
+     * Returns the list that changes are made to, which is not yet shown during a batch.
+     */
+    private List<Person> getCurrentList() {
+        return pendingList != null ? pendingList : internalList;
+    }
+
+    private void setCurrentList(List<Person> persons) {
+        if (pendingList != null) {
+            pendingList = new ArrayList<>(persons);
+        } else {
+            internalList.setAll(persons);
+        }
+        positionIndex.clear();
+    }
+
+    /**
+     * Returns the persons in {@code original} that are not in {@code changed}, compared by identity, if
+     * {@code changed} is {@code original} with only those persons removed. Returns null otherwise.
+     */
+    private static Set<Person> getRemovedPersons(List<Person> original, List<Person> changed) {
+        if (changed.size() >= original.size()) {
+            return null;
+        }
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        int changedIndex = 0;
+        for (Person person : original) {
+            if (changedIndex < changed.size() && changed.get(changedIndex) == person) {
+                changedIndex++;
+            } else {
+                removed.add(person);
+            }
+        }
+        return changedIndex == changed.size() ? removed : null;
+    }
+
+    /**
+     * Returns the person in the list that is equal to {@code person}, or null if there is none.
+     * Names are unique in the list, so it can only be the person with the same name.
+     */
+    private Person getEquivalentPerson(Person person) {
+        Person existing = personsByName.get(person.getNameValue());
+        return existing != null && existing.equals(person) ? existing : null;
+    }
+
+    /**
+     * Returns the position of the person in the list that is equal to {@code person}, or -1 if there is none.
+     */
+    private int indexOf(Person person) {
+        Person existing = getEquivalentPerson(person);
+        return existing != null ? positionIndex.indexOf(existing, getCurrentList()) : -1;
+    }
+
+    private void setAllBirthdays(List<Person> persons) {
+        birthdayIndex.clear();
+        for (Person person : persons) {
+            birthdayIndex.add(person);
+        }
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * During a batch of changes, it still shows the persons as they were before the batch.
      */
     public ObservableList<Person> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an iterator over the persons, including the changes made so far in a batch.
+     * The persons cannot be removed through it, as that would bypass the indexes.
+     */
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return Collections.unmodifiableList(getCurrentList()).iterator();
     }
 
     @Override
@@ -121,30 +385,37 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        // compares the persons including the changes made so far in a batch, like the other queries
+        return getCurrentList().equals(otherUniquePersonList.getCurrentList());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return getCurrentList().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return getCurrentList().toString();
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} keyed by name, in a single pass over the list.
+     *
+     * @throws DuplicatePersonException listing every name shared by more than one person in {@code persons}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<String, Person> indexUniquePersons(List<Person> persons) {
+        Map<String, Person> byName = new HashMap<>(Math.max(16, persons.size() * 4 / 3 + 1));
+        Set<String> duplicateNames = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (byName.putIfAbsent(person.getNameValue(), person) != null) {
+                duplicateNames.add(person.getNameValue());
             }
         }
-        return true;
+
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(List.copyOf(duplicateNames));
+        }
+        return byName;
     }
 }
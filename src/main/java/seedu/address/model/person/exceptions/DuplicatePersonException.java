@@ -1,11 +1,31 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<String> duplicateNames;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicateNames = List.of();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports the names shared by more than one person.
+     */
+    public DuplicatePersonException(List<String> duplicateNames) {
+        super("Operation would result in duplicate persons: " + String.join(", ", duplicateNames));
+        this.duplicateNames = List.copyOf(duplicateNames);
+    }
+
+    /**
+     * Returns the names shared by more than one person, or an empty list if they are not known.
+     */
+    public List<String> getDuplicateNames() {
+        return duplicateNames;
     }
 }
@@ -0,0 +1,187 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import seedu.address.model.util.Interner;
+
+/**
+ * An immutable set of tags, stored as a bitset over the numbers of their canonical instances.
+ * Iterating over the set returns the canonical instances, so equal tags held by many persons are a single object,
+ * and a set of up to 64 distinct tags takes no more memory than the set object itself.
+ * <p>
+ * Any attempt to modify the set throws {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final Interner<Tag> TAGS = new Interner<>();
+    private static final TagSet EMPTY = new TagSet(0, null);
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    // the bits of the first 64 tag numbers, and of any later ones in otherWords, which is null if there are none
+    private final long firstWord;
+    private final long[] otherWords;
+
+    private TagSet(long firstWord, long[] otherWords) {
+        this.firstWord = firstWord;
+        this.otherWords = otherWords;
+    }
+
+    /**
+     * Returns a set of the canonical instances of {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        long firstWord = 0;
+        long[] otherWords = null;
+        for (Tag tag : tags) {
+            int id = TAGS.getId(tag);
+            if (id < BITS_PER_WORD) {
+                firstWord |= 1L << id;
+                continue;
+            }
+            int wordIndex = id / BITS_PER_WORD - 1;
+            if (otherWords == null || wordIndex >= otherWords.length) {
+                otherWords = otherWords == null ? new long[wordIndex + 1] : Arrays.copyOf(otherWords, wordIndex + 1);
+            }
+            otherWords[wordIndex] |= 1L << id;
+        }
+        return new TagSet(firstWord, otherWords);
+    }
+
+    private long getWord(int wordIndex) {
+        if (wordIndex == 0) {
+            return firstWord;
+        }
+        return otherWords != null && wordIndex <= otherWords.length ? otherWords[wordIndex - 1] : 0;
+    }
+
+    private int getWordCount() {
+        return otherWords == null ? 1 : otherWords.length + 1;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag)) {
+            return false;
+        }
+        int id = TAGS.findId(other);
+        return id >= 0 && (getWord(id / BITS_PER_WORD) & (1L << id)) != 0;
+    }
+
+    @Override
+    public int size() {
+        int size = Long.bitCount(firstWord);
+        if (otherWords != null) {
+            for (long word : otherWords) {
+                size += Long.bitCount(word);
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int wordIndex = 0;
+            private long remainingBits = firstWord;
+
+            @Override
+            public boolean hasNext() {
+                while (remainingBits == 0 && wordIndex + 1 < getWordCount()) {
+                    wordIndex++;
+                    remainingBits = getWord(wordIndex);
+                }
+                return remainingBits != 0;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int bit = Long.numberOfTrailingZeros(remainingBits);
+                remainingBits &= remainingBits - 1;
+                return TAGS.get(wordIndex * BITS_PER_WORD + bit);
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof TagSet) {
+            TagSet otherTagSet = (TagSet) other;
+            int wordCount = Math.max(getWordCount(), otherTagSet.getWordCount());
+            for (int i = 0; i < wordCount; i++) {
+                if (getWord(i) != otherTagSet.getWord(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // same as any other set of the same tags
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A registry of the canonical instances of an immutable value type, so that equal values held by many persons share
+ * a single instance instead of each holding a copy.
+ * Each canonical instance is numbered in the order it was first interned, starting from 0, so that a set of them can
+ * be stored as a bitset over their numbers.
+ * <p>
+ * Canonical instances are kept for as long as the registry is, so this is meant for value types that have few
+ * distinct values in practice, such as tags and relationships.
+ */
+public class Interner<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<T, Integer> idsByValue = new HashMap<>();
+    private Object[] valuesById = new Object[INITIAL_CAPACITY];
+
+    /**
+     * Returns the canonical instance equal to {@code value}, which is {@code value} itself if no equal value was
+     * interned before.
+     */
+    public T intern(T value) {
+        return get(getId(value));
+    }
+
+    /**
+     * Returns the number of the canonical instance equal to {@code value}, interning it first if needed.
+     */
+    public synchronized int getId(T value) {
+        requireNonNull(value);
+        Integer id = idsByValue.get(value);
+        if (id != null) {
+            return id;
+        }
+
+        int newId = idsByValue.size();
+        if (newId == valuesById.length) {
+            valuesById = Arrays.copyOf(valuesById, newId * 2);
+        }
+        valuesById[newId] = value;
+        idsByValue.put(value, newId);
+        return newId;
+    }
+
+    /**
+     * Returns the number of the canonical instance equal to {@code value}, or -1 if no equal value was interned.
+     */
+    public synchronized int findId(Object value) {
+        Integer id = idsByValue.get(value);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the canonical instance numbered {@code id}.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized T get(int id) {
+        assert id >= 0 && id < idsByValue.size();
+        return (T) valuesById[id];
+    }
+
+    /**
+     * Returns the number of canonical instances.
+     */
+    public synchronized int size() {
+        return idsByValue.size();
+    }
+}
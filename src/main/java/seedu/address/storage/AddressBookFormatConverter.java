@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the {@code AddressBookStorage} for a {@link StorageFormat} and converts address book data between formats.
+ */
+public class AddressBookFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFormatConverter.class);
+
+    /**
+     * Returns an {@code AddressBookStorage} that stores the address book at {@code filePath} in {@code format}.
+     */
+    public static AddressBookStorage createStorage(Path filePath, StorageFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+
+        switch (format) {
+        case JSON:
+            return new JournaledAddressBookStorage(filePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        default:
+            throw new AssertionError("Unknown storage format: " + format);
+        }
+    }
+
+    /**
+     * Reads the address book at {@code sourcePath} in {@code sourceFormat} and writes it to {@code targetPath}
+     * in {@code targetFormat}. No data is lost in either direction.
+     *
+     * @return false if there is no address book at {@code sourcePath}, in which case nothing is written.
+     * @throws DataLoadingException if the source could not be read.
+     * @throws IOException if the target could not be written.
+     */
+    public static boolean convert(Path sourcePath, StorageFormat sourceFormat, Path targetPath,
+            StorageFormat targetFormat) throws DataLoadingException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = createStorage(sourcePath, sourceFormat).readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        createStorage(targetPath, targetFormat).saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Converts the address book at {@code addressBookFilePath} into {@code format} if it was last saved in another
+     * format, so that switching formats in the user prefs keeps the data. Each format has its own data file, given by
+     * {@link StorageFormat#getDataFilePath(Path)}, and the data file converted from is left in place.
+     * If {@code lastSavedFormat} was not recorded, the address book is converted only if it has no data file in
+     * {@code format} but has one in another format.
+     *
+     * @return true if the address book was converted.
+     * @throws DataLoadingException if the data file to convert from could not be read.
+     * @throws IOException if the data file in {@code format} could not be written.
+     */
+    public static boolean convertToFormat(Path addressBookFilePath, Optional<StorageFormat> lastSavedFormat,
+            StorageFormat format) throws DataLoadingException, IOException {
+        requireNonNull(addressBookFilePath);
+        requireNonNull(lastSavedFormat);
+        requireNonNull(format);
+
+        Optional<StorageFormat> sourceFormat = lastSavedFormat.isPresent()
+                ? lastSavedFormat
+                : findSavedFormat(addressBookFilePath, format);
+        if (sourceFormat.isEmpty() || sourceFormat.get() == format) {
+            return false;
+        }
+
+        Path sourcePath = sourceFormat.get().getDataFilePath(addressBookFilePath);
+        Path targetPath = format.getDataFilePath(addressBookFilePath);
+        logger.info("Converting address book data file " + sourcePath + " to " + format + " at " + targetPath);
+        return convert(sourcePath, sourceFormat.get(), targetPath, format);
+    }
+
+    /**
+     * Returns {@code preferredFormat} if the address book at {@code addressBookFilePath} has a data file in it,
+     * or else any other format it has a data file in.
+     */
+    private static Optional<StorageFormat> findSavedFormat(Path addressBookFilePath, StorageFormat preferredFormat) {
+        if (hasDataFile(addressBookFilePath, preferredFormat)) {
+            return Optional.of(preferredFormat);
+        }
+        return Arrays.stream(StorageFormat.values())
+                .filter(format -> hasDataFile(addressBookFilePath, format))
+                .findFirst();
+    }
+
+    /**
+     * Returns true if the address book at {@code addressBookFilePath} has a data file in {@code format}.
+     * A JSON data file may have only been saved to its journal so far.
+     */
+    private static boolean hasDataFile(Path addressBookFilePath, StorageFormat format) {
+        Path filePath = format.getDataFilePath(addressBookFilePath);
+        return Files.exists(filePath)
+                || format == StorageFormat.JSON
+                        && Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath));
+    }
+}
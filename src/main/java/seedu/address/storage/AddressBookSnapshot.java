@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An unmodifiable list of the persons in an address book, as taken to be saved or as read from a data file.
+ * Persons are immutable, so only the list of them is kept, and none of the indexes an {@code AddressBook} keeps of
+ * them are built. The model builds those once, when it takes the data.
+ */
+final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final long version;
+
+    /**
+     * Creates a snapshot of the persons in {@code source} at its current version.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        this(List.copyOf(source.getPersonList()), source.getVersion());
+    }
+
+    private AddressBookSnapshot(List<Person> persons, long version) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.version = version;
+    }
+
+    /**
+     * Returns an address book of {@code persons}, which must no longer be modified.
+     *
+     * @throws DuplicatePersonException listing every name shared by more than one person in {@code persons}.
+     */
+    static AddressBookSnapshot ofUniquePersons(List<Person> persons) {
+        Set<String> names = new HashSet<>(Math.max(16, persons.size() * 4 / 3 + 1));
+        Set<String> duplicateNames = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getNameValue())) {
+                duplicateNames.add(person.getNameValue());
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(List.copyOf(duplicateNames));
+        }
+        return new AddressBookSnapshot(Collections.unmodifiableList(persons), UNTRACKED_VERSION);
+    }
+
+    /**
+     * Returns an address book of {@code persons}, which must no longer be modified, without checking that they have
+     * distinct names. Only for persons known to be unique, such as those read from a data file that is unchanged
+     * since this app saved it.
+     */
+    static AddressBookSnapshot ofTrustedPersons(List<Person> persons) {
+        return new AddressBookSnapshot(Collections.unmodifiableList(persons), UNTRACKED_VERSION);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyCommandHistory;
+
+/**
+ * A class to access CommandHistory data stored as an append-only log on the hard disk, one JSON string per line.
+ * Saving appends only the commands recorded since the previous save. Once the log holds more than
+ * {@code MAX_LOG_LINES} lines, it is truncated by rewriting it with the last {@code MAX_HISTORY_SIZE} commands.
+ * A last line torn by a crash in the middle of an append is discarded when the log is read.
+ * Command history files in the older JSON format are still read, and are rewritten as a log on the next save.
+ */
+public class AppendOnlyCommandHistoryStorage implements CommandHistoryStorage {
+
+    public static final int MAX_LOG_LINES = 2 * CommandHistory.MAX_HISTORY_SIZE;
+
+    private static final Logger logger = LogsCenter.getLogger(AppendOnlyCommandHistoryStorage.class);
+
+    private final Path filePath;
+
+    // A copy of the history last persisted at persistedFilePath, and the number of lines in that log.
+    private Path persistedFilePath;
+    private CommandHistory persistedHistory;
+    private int lineCount;
+
+    public AppendOnlyCommandHistoryStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCommandHistory> readCommandHistory() throws DataLoadingException {
+        return readCommandHistory(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCommandHistory()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the file format is not as expected.
+     */
+    @Override
+    public Optional<ReadOnlyCommandHistory> readCommandHistory(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return DataFileRecovery.readNewestValid(filePath, this::readFile);
+    }
+
+    private Optional<ReadOnlyCommandHistory> readFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        List<String> commands = new ArrayList<>();
+        try {
+            if (FileUtil.readFromFile(filePath).trim().startsWith("{")) {
+                logger.info("Reading command history " + filePath + " in the older JSON format");
+                persistedFilePath = null;
+                return new JsonCommandHistoryStorage(filePath).readFile(filePath);
+            }
+            for (String line : FileUtil.readCompleteLines(filePath)) {
+                if (!line.isBlank()) {
+                    commands.add(JsonUtil.fromJsonString(line, String.class));
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from command history file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        CommandHistory commandHistory = new CommandHistory();
+        commandHistory.setCommands(commands);
+
+        persistedFilePath = filePath;
+        persistedHistory = new CommandHistory(commandHistory);
+        lineCount = commands.size();
+        return Optional.of(commandHistory);
+    }
+
+    @Override
+    public void saveCommandHistory(ReadOnlyCommandHistory commandHistory) throws IOException {
+        saveCommandHistory(commandHistory, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCommandHistory(ReadOnlyCommandHistory)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveCommandHistory(ReadOnlyCommandHistory commandHistory, Path filePath) throws IOException {
+        requireNonNull(commandHistory);
+        requireNonNull(filePath);
+
+        Optional<List<String>> addedCommands = filePath.equals(persistedFilePath)
+                ? commandHistory.getCommandsAddedSince(persistedHistory)
+                : Optional.empty();
+
+        if (addedCommands.isPresent() && lineCount + addedCommands.get().size() <= MAX_LOG_LINES) {
+            if (!addedCommands.get().isEmpty()) {
+                FileUtil.appendToFile(filePath, toLines(addedCommands.get()));
+                lineCount += addedCommands.get().size();
+            }
+        } else {
+            logger.fine("Rewriting command history log " + filePath);
+            List<String> commands = commandHistory.getCommandHistory();
+            FileUtil.writeToFile(filePath, toLines(commands));
+            lineCount = commands.size();
+        }
+
+        persistedFilePath = filePath;
+        persistedHistory = new CommandHistory(commandHistory);
+    }
+
+    private static String toLines(List<String> commands) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (String command : commands) {
+            lines.append(JsonUtil.toJsonLine(command)).append(System.lineSeparator());
+        }
+        return lines.toString();
+    }
+}
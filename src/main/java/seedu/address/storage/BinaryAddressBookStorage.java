@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * @see BinarySerializableAddressBook
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the file format is not as expected.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return DataFileRecovery.readNewestValid(filePath, this::readFile);
+    }
+
+    private Optional<ReadOnlyAddressBook> readFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        byte[] content;
+        try {
+            content = Files.readAllBytes(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from address book file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        boolean isTrusted = DataFileChecksum.matches(filePath, content);
+        if (isTrusted) {
+            logger.fine(filePath + " is unchanged since it was saved, skipping validation");
+        }
+        try {
+            return Optional.of(BinarySerializableAddressBook.read(content, isTrusted));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, so an interrupted save never leaves it partially written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        byte[] content = BinarySerializableAddressBook.write(addressBook);
+        FileUtil.writeToFile(filePath, content);
+        DataFileChecksum.write(filePath, content);
+    }
+}
@@ -0,0 +1,436 @@
+package seedu.address.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nickname;
+import seedu.address.model.person.Notes;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Relationship;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Converts an address book to and from a compact binary format.
+ * <p>
+ * The data starts with a header made up of {@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}, followed by a string
+ * table of every distinct tag name, a string table of every distinct relationship, and finally the persons.
+ * Text fields are written as length-prefixed UTF-8, and each person refers to its relationship and tags by their
+ * index in the string tables, so that repeated values are stored, validated and instantiated only once.
+ * A birthday is written as the number of days from 1970-01-01 to it, so it is neither formatted nor parsed.
+ * An optional text field that is absent is written as an empty string, as in the JSON format, and an absent
+ * birthday as {@code Integer.MIN_VALUE}. Data in the first version of the format, which held birthdays as text, can
+ * still be read.
+ */
+class BinarySerializableAddressBook {
+
+    public static final int MAGIC_NUMBER = 0x4142494E; // "ABIN"
+    public static final short FORMAT_VERSION = 2;
+    // the first version, which held birthdays as text, and can still be read
+    public static final short TEXT_BIRTHDAY_FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Data is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_CORRUPTED_DATA = "Binary address book data is corrupted.";
+
+    private static final int NO_RELATIONSHIP = -1;
+    private static final int NO_BIRTHDAY = Integer.MIN_VALUE;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+    // Sizes the buffer for the persons up front; it grows if the persons take more.
+    private static final int ESTIMATED_PERSON_SIZE = 160;
+    private static final int MAX_BYTES_PER_CHAR = 3;
+    // Caps the capacity reserved up front, so that a corrupted count cannot exhaust the heap before it is detected.
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    /**
+     * Returns {@code addressBook} in the binary format.
+     * The persons are written in a single pass that also collects the string tables, which are then put in front.
+     */
+    public static byte[] write(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = addressBook.getPersonList();
+        StringTable tagTable = new StringTable();
+        StringTable relationshipTable = new StringTable();
+
+        ByteSink personData = new ByteSink(persons.size() * ESTIMATED_PERSON_SIZE + Integer.BYTES);
+        personData.writeInt(persons.size());
+        for (Person person : persons) {
+            personData.writeString(person.getNameValue());
+            personData.writeString(person.getPhoneValue());
+            personData.writeString(person.getEmailValue());
+            personData.writeString(person.getAddressValue());
+            personData.writeInt(person.getBirthdayEpochDay().orElse(NO_BIRTHDAY));
+            personData.writeString(person.getNicknameValue());
+            personData.writeString(person.getNotesValue());
+            String relationship = person.getRelationshipValue();
+            personData.writeInt(relationship.isEmpty() ? NO_RELATIONSHIP : relationshipTable.indexOf(relationship));
+            Set<Tag> tags = person.getTags();
+            personData.writeInt(tags.size());
+            for (Tag tag : tags) {
+                personData.writeInt(tagTable.indexOf(tag.tagName));
+            }
+        }
+
+        ByteSink data = new ByteSink(personData.size() + tagTable.getByteSize() + relationshipTable.getByteSize()
+                + HEADER_SIZE);
+        data.writeInt(MAGIC_NUMBER);
+        data.writeShort(FORMAT_VERSION);
+        tagTable.writeTo(data);
+        relationshipTable.writeTo(data);
+        data.write(personData);
+        return data.toByteArray();
+    }
+
+    /**
+     * Reads an address book written by {@link #write(ReadOnlyAddressBook)} from {@code data}.
+     *
+     * @throws IllegalValueException if the data is not a supported binary address book, ends prematurely, or there
+     *     were any data constraints violated.
+     */
+    public static ReadOnlyAddressBook read(byte[] data) throws IllegalValueException {
+        return read(data, false);
+    }
+
+    /**
+     * Reads an address book from {@code data} like {@link #read(byte[])}, but without validating the fields of each
+     * person if {@code isTrusted}. Only data that is unchanged since this app saved it is trusted.
+     * The structure of the data is checked either way.
+     *
+     * @throws IllegalValueException if the data is not a supported binary address book, ends prematurely, or there
+     *     were any data constraints violated.
+     */
+    public static ReadOnlyAddressBook read(byte[] data, boolean isTrusted) throws IllegalValueException {
+        ByteSource in = new ByteSource(data);
+        if (data.length < HEADER_SIZE || in.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+        short version = in.readShort();
+        if (version != FORMAT_VERSION && version != TEXT_BIRTHDAY_FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        List<Tag> tags = readStringTable(in, isTrusted ? Tag::fromTrusted : Tag::new);
+        // interned once here rather than by each person that has the relationship
+        List<Relationship> relationships = readStringTable(in, isTrusted
+                ? value -> Relationship.fromTrusted(value).intern()
+                : value -> new Relationship(value).intern());
+
+        Map<Long, TagSet> sharedTagSets = new HashMap<>();
+        int personCount = in.readCount();
+        List<Person> persons = new ArrayList<>(Math.min(personCount, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < personCount; i++) {
+            persons.add(isTrusted
+                    ? readTrustedPerson(in, version, relationships, tags, sharedTagSets)
+                    : readPerson(in, version, relationships, tags, sharedTagSets));
+        }
+        // data unchanged since this app saved it holds no duplicate persons, as this app never saves any
+        return isTrusted
+                ? AddressBookSnapshot.ofTrustedPersons(persons)
+                : JsonSerializableAddressBook.toReadOnlyAddressBook(persons);
+    }
+
+    /**
+     * Reads a person, validating each of its fields.
+     */
+    private static Person readPerson(ByteSource in, short version, List<Relationship> relationships, List<Tag> tags,
+            Map<Long, TagSet> sharedTagSets) throws IllegalValueException {
+        Name name = parseField(in.readString(), Name::new);
+        Phone phone = parseField(in.readString(), Phone::new);
+        Email email = parseField(in.readString(), Email::new);
+        Address address = parseField(in.readString(), Address::new);
+        Optional<Birthday> birthday = version == TEXT_BIRTHDAY_FORMAT_VERSION
+                ? parseOptionalField(in.readString(), Birthday::new)
+                : readBirthday(in);
+        Optional<Nickname> nickname = parseOptionalField(in.readString(), Nickname::new);
+        Optional<Notes> notes = parseOptionalField(in.readString(), Notes::new);
+        int relationshipIndex = in.readInt();
+        Optional<Relationship> relationship = relationshipIndex == NO_RELATIONSHIP
+                ? Optional.empty()
+                : Optional.of(lookUp(relationships, relationshipIndex));
+        TagSet personTags = readTags(in, tags, sharedTagSets);
+        return new Person(name, phone, email, address, birthday, relationship, nickname, notes, personTags);
+    }
+
+    /**
+     * Reads a person from data that is unchanged since this app saved it, taking its field values as they are
+     * instead of validating and wrapping each of them.
+     */
+    private static Person readTrustedPerson(ByteSource in, short version, List<Relationship> relationships,
+            List<Tag> tags, Map<Long, TagSet> sharedTagSets) throws IllegalValueException {
+        String name = in.readString();
+        String phone = in.readString();
+        String email = in.readString();
+        String address = in.readString();
+        OptionalInt birthday;
+        if (version == TEXT_BIRTHDAY_FORMAT_VERSION) {
+            String value = in.readString();
+            birthday = value.isEmpty() ? OptionalInt.empty() : OptionalInt.of(Birthday.fromTrusted(value).toEpochDay());
+        } else {
+            int epochDay = in.readInt();
+            birthday = epochDay == NO_BIRTHDAY ? OptionalInt.empty() : OptionalInt.of(epochDay);
+        }
+        String nickname = in.readString();
+        String notes = in.readString();
+        int relationshipIndex = in.readInt();
+        Relationship relationship = relationshipIndex == NO_RELATIONSHIP
+                ? null
+                : lookUp(relationships, relationshipIndex);
+        TagSet personTags = readTags(in, tags, sharedTagSets);
+        return Person.fromTrusted(name, phone, email, address, birthday, relationship,
+                nickname.isEmpty() ? null : nickname, notes.isEmpty() ? null : notes, personTags);
+    }
+
+    /**
+     * Reads the tags of a person as indices into {@code tags}. Tag sets are immutable, so the persons with the same
+     * tags among the first 64 of the table share one set from {@code sharedTagSets}, instead of each building one.
+     */
+    private static TagSet readTags(ByteSource in, List<Tag> tags, Map<Long, TagSet> sharedTagSets)
+            throws IllegalValueException {
+        int tagCount = in.readCount();
+        List<Tag> personTags = new ArrayList<>(Math.min(tagCount, MAX_INITIAL_CAPACITY));
+        long indexBits = 0;
+        boolean isShareable = true;
+        for (int i = 0; i < tagCount; i++) {
+            int index = in.readInt();
+            personTags.add(lookUp(tags, index));
+            if (index < Long.SIZE) {
+                indexBits |= 1L << index;
+            } else {
+                isShareable = false;
+            }
+        }
+        if (!isShareable) {
+            return TagSet.of(personTags);
+        }
+
+        TagSet sharedTagSet = sharedTagSets.get(indexBits);
+        if (sharedTagSet == null) {
+            sharedTagSet = TagSet.of(personTags);
+            sharedTagSets.put(indexBits, sharedTagSet);
+        }
+        return sharedTagSet;
+    }
+
+    private static Optional<Birthday> readBirthday(ByteSource in) throws IllegalValueException {
+        int epochDay = in.readInt();
+        if (epochDay == NO_BIRTHDAY) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Birthday.ofEpochDay(epochDay));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static <T> List<T> readStringTable(ByteSource in, Function<String, T> constructor)
+            throws IllegalValueException {
+        int size = in.readCount();
+        List<T> values = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++) {
+            values.add(parseField(in.readString(), constructor));
+        }
+        return values;
+    }
+
+    private static <T> T lookUp(List<T> table, int index) throws IllegalValueException {
+        if (index < 0 || index >= table.size()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+        }
+        return table.get(index);
+    }
+
+    /**
+     * Constructs a model object from {@code value}, reporting constraint violations as
+     * {@code IllegalValueException}s.
+     */
+    private static <T> T parseField(String value, Function<String, T> constructor) throws IllegalValueException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static <T> Optional<T> parseOptionalField(String value, Function<String, T> constructor)
+            throws IllegalValueException {
+        return value.isEmpty() ? Optional.empty() : Optional.of(parseField(value, constructor));
+    }
+
+    /**
+     * The distinct values of a string table, in the order they were first seen, with their indices.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private int byteSize = Integer.BYTES;
+
+        int indexOf(String value) {
+            Integer index = indices.get(value);
+            if (index == null) {
+                index = values.size();
+                indices.put(value, index);
+                values.add(value);
+                byteSize += Integer.BYTES + value.length() * MAX_BYTES_PER_CHAR;
+            }
+            return index;
+        }
+
+        /**
+         * Returns at least the number of bytes that {@link #writeTo(ByteSink)} writes.
+         */
+        int getByteSize() {
+            return byteSize;
+        }
+
+        void writeTo(ByteSink out) {
+            out.writeInt(values.size());
+            for (String value : values) {
+                out.writeString(value);
+            }
+        }
+    }
+
+    /**
+     * A growable array of bytes that values are written to in big-endian order, like a {@code DataOutputStream}
+     * without the synchronization and the per-byte calls of a stream.
+     */
+    private static class ByteSink {
+        private byte[] bytes;
+        private int size;
+
+        ByteSink(int initialCapacity) {
+            bytes = new byte[Math.max(initialCapacity, 16)];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void writeInt(int value) {
+            ensureCapacity(Integer.BYTES);
+            bytes[size++] = (byte) (value >>> 24);
+            bytes[size++] = (byte) (value >>> 16);
+            bytes[size++] = (byte) (value >>> 8);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeShort(short value) {
+            ensureCapacity(Short.BYTES);
+            bytes[size++] = (byte) (value >>> 8);
+            bytes[size++] = (byte) value;
+        }
+
+        /**
+         * Writes {@code value} as length-prefixed UTF-8. ASCII text, which most fields are, is copied as is.
+         */
+        void writeString(String value) {
+            int length = value.length();
+            ensureCapacity(Integer.BYTES + length);
+            int start = size + Integer.BYTES;
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                    writeInt(encoded.length);
+                    write(encoded, encoded.length);
+                    return;
+                }
+                bytes[start + i] = (byte) c;
+            }
+            writeInt(length);
+            size += length;
+        }
+
+        void write(ByteSink other) {
+            write(other.bytes, other.size);
+        }
+
+        private void write(byte[] source, int length) {
+            ensureCapacity(length);
+            System.arraycopy(source, 0, bytes, size, length);
+            size += length;
+        }
+
+        byte[] toByteArray() {
+            return size == bytes.length ? bytes : Arrays.copyOf(bytes, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+
+    /**
+     * Reads values written by a {@link ByteSink} from an array of bytes, reporting data that ends prematurely as
+     * corrupted.
+     */
+    private static class ByteSource {
+        private final byte[] bytes;
+        private int position;
+
+        ByteSource(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readInt() throws IllegalValueException {
+            require(Integer.BYTES);
+            int value = (bytes[position] & 0xFF) << 24 | (bytes[position + 1] & 0xFF) << 16
+                    | (bytes[position + 2] & 0xFF) << 8 | (bytes[position + 3] & 0xFF);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        short readShort() throws IllegalValueException {
+            require(Short.BYTES);
+            short value = (short) ((bytes[position] & 0xFF) << 8 | (bytes[position + 1] & 0xFF));
+            position += Short.BYTES;
+            return value;
+        }
+
+        /**
+         * Reads a count, which cannot be negative.
+         */
+        int readCount() throws IllegalValueException {
+            int count = readInt();
+            if (count < 0) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+            }
+            return count;
+        }
+
+        String readString() throws IllegalValueException {
+            int length = readCount();
+            if (length == 0) {
+                // an absent optional field, which many persons have
+                return "";
+            }
+            require(length);
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private void require(int length) throws IllegalValueException {
+            if (length > bytes.length - position) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Records the checksum of a data file saved by this app in a file next to it, so that a data file that is unchanged
+ * since it was saved can be recognised when it is read again. The values in such a file were valid when they were
+ * saved, so they can be loaded without validating each of them again.
+ * <p>
+ * The checksum is written after the data file. A crash in between leaves an outdated checksum that does not match,
+ * so the data file is then validated in full as usual. The checksum guards against accidental changes, such as
+ * manual edits and corruption, not against deliberate tampering.
+ */
+class DataFileChecksum {
+
+    public static final String CHECKSUM_FILE_SUFFIX = ".crc";
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileChecksum.class);
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Returns the path of the file that holds the checksum of the data file at {@code dataFilePath}.
+     */
+    static Path getChecksumFilePath(Path dataFilePath) {
+        return Paths.get(dataFilePath.toString() + CHECKSUM_FILE_SUFFIX);
+    }
+
+    /**
+     * Records the checksum of {@code content}, which was just saved as the data file at {@code dataFilePath}.
+     */
+    static void write(Path dataFilePath, byte[] content) throws IOException {
+        CRC32C checksum = new CRC32C();
+        checksum.update(content);
+        FileUtil.writeToFile(getChecksumFilePath(dataFilePath), Long.toHexString(checksum.getValue()));
+    }
+
+    /**
+     * Moves the checksum recorded for {@code source} to {@code target}, after the data file itself was moved.
+     * Does nothing if no checksum was recorded for {@code source}.
+     */
+    static void move(Path source, Path target) throws IOException {
+        Path checksumFilePath = getChecksumFilePath(source);
+        if (Files.exists(checksumFilePath)) {
+            FileUtil.moveAtomically(checksumFilePath, getChecksumFilePath(target));
+        }
+    }
+
+    /**
+     * Returns true if the data file at {@code dataFilePath} has the checksum recorded for it, that is, if it has not
+     * changed since this app saved it. Returns false if no checksum was recorded or either file cannot be read.
+     */
+    static boolean matches(Path dataFilePath) {
+        try {
+            OptionalLong recordedChecksum = readRecordedChecksum(dataFilePath);
+            return recordedChecksum.isPresent() && recordedChecksum.getAsLong() == computeChecksum(dataFilePath);
+        } catch (IOException e) {
+            logger.fine("Could not verify the checksum of " + dataFilePath + ": " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if {@code content}, which was just read from the data file at {@code dataFilePath}, has the
+     * checksum recorded for that file, like {@link #matches(Path)} but without reading the data file again.
+     */
+    static boolean matches(Path dataFilePath, byte[] content) {
+        try {
+            OptionalLong recordedChecksum = readRecordedChecksum(dataFilePath);
+            if (recordedChecksum.isEmpty()) {
+                return false;
+            }
+            CRC32C checksum = new CRC32C();
+            checksum.update(content);
+            return recordedChecksum.getAsLong() == checksum.getValue();
+        } catch (IOException e) {
+            logger.fine("Could not verify the checksum of " + dataFilePath + ": " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the checksum recorded for the data file at {@code dataFilePath}, or an empty {@code OptionalLong} if
+     * there is none or it is malformed.
+     */
+    private static OptionalLong readRecordedChecksum(Path dataFilePath) throws IOException {
+        Path checksumFilePath = getChecksumFilePath(dataFilePath);
+        if (!Files.exists(checksumFilePath)) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(FileUtil.readFromFile(checksumFilePath).trim(), 16));
+        } catch (NumberFormatException e) {
+            logger.fine("Malformed checksum recorded for " + dataFilePath + ": " + e);
+            return OptionalLong.empty();
+        }
+    }
+
+    private static long computeChecksum(Path file) throws IOException {
+        CRC32C checksum = new CRC32C();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int length = in.read(buffer); length >= 0; length = in.read(buffer)) {
+                checksum.update(buffer, 0, length);
+            }
+        }
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Recovers data files saved with {@link FileUtil#writeToFile(Path, byte[])} after a save was interrupted,
+ * which can leave a temp file next to the data file.
+ */
+class DataFileRecovery {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileRecovery.class);
+
+    /**
+     * Reads one version of a data file.
+     */
+    @FunctionalInterface
+    interface DataFileReader<T> {
+        Optional<T> read(Path file) throws DataLoadingException;
+    }
+
+    /**
+     * Reads {@code file} with {@code reader}. If an interrupted save left a temp file behind, the newest of the two
+     * files that can be read is used and kept as {@code file}, and the other one is discarded.
+     *
+     * @throws DataLoadingException if neither file can be read, with the error from the newest one.
+     */
+    static <T> Optional<T> readNewestValid(Path file, DataFileReader<T> reader) throws DataLoadingException {
+        Path tempFile = FileUtil.getTempFilePath(file);
+        if (!Files.exists(tempFile)) {
+            return reader.read(file);
+        }
+
+        logger.warning("Found " + tempFile + " left by an interrupted save, recovering " + file);
+        List<Path> candidates = new ArrayList<>(List.of(tempFile));
+        if (Files.exists(file)) {
+            candidates.add(file);
+        }
+        candidates.sort(Comparator.comparing(DataFileRecovery::getLastModifiedTime).reversed());
+
+        DataLoadingException newestFailure = null;
+        for (Path candidate : candidates) {
+            Optional<T> data;
+            try {
+                data = reader.read(candidate);
+            } catch (DataLoadingException e) {
+                logger.warning("Could not recover from " + candidate + ": " + e.getMessage());
+                newestFailure = newestFailure == null ? e : newestFailure;
+                continue;
+            }
+            if (data.isPresent()) {
+                logger.info("Recovered " + file + " from " + candidate);
+                keep(candidate, file);
+                return data;
+            }
+        }
+
+        if (newestFailure != null) {
+            throw newestFailure;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Makes {@code recovered} the data file at {@code file}, discarding the other version.
+     */
+    private static void keep(Path recovered, Path file) {
+        try {
+            if (recovered.equals(file)) {
+                FileUtil.deleteDurably(FileUtil.getTempFilePath(file));
+            } else {
+                FileUtil.moveAtomically(recovered, file);
+            }
+        } catch (IOException e) {
+            logger.warning("Could not clean up after recovering " + file + ": " + e);
+        }
+    }
+
+    private static FileTime getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
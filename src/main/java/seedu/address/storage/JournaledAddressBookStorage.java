@@ -0,0 +1,321 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * Each save appends one journal entry per person added, edited or deleted since the previous save, so the cost
+ * of saving is proportional to the size of the change rather than the size of the address book.
+ * The journal is periodically compacted into a fresh snapshot.
+ * <p>
+ * Compaction writes the new snapshot to a temp file, deletes the journal and then moves the snapshot into place.
+ * Deleting the journal is the commit point: on reading, a leftover snapshot temp file is only used if the journal
+ * is gone, so a journal is never replayed on top of a snapshot that already contains its changes.
+ * A journal entry torn by a crash in the middle of an append is discarded.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    public static final String MESSAGE_UNKNOWN_TARGET = "Journal entry refers to a missing person: %s";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Journal replay results in duplicate person(s): %s";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    // The persons currently persisted (snapshot and journal combined) at persistedFilePath, in order.
+    private Path persistedFilePath;
+    private List<Person> persistedPersons;
+    private int journalEntryCount;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts its journal into a snapshot once it holds more
+     * than {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        assert compactionThreshold > 0;
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that accompanies the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return Paths.get(snapshotPath.toString() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal on top of it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if the snapshot or the journal is not in the expected format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalPath = getJournalFilePath(filePath);
+        Path snapshotTempPath = FileUtil.getTempFilePath(filePath);
+        if (Files.exists(snapshotTempPath) && Files.exists(journalPath)) {
+            // compaction was interrupted before it committed, so the old snapshot and journal still hold the data
+            logger.warning("Discarding uncommitted snapshot " + snapshotTempPath);
+            try {
+                FileUtil.deleteDurably(snapshotTempPath);
+            } catch (IOException e) {
+                throw new DataLoadingException(e);
+            }
+        }
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (snapshot.isEmpty() && !Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        List<Person> persons = snapshot.isPresent()
+                ? new ArrayList<>(snapshot.get().getPersonList())
+                : new ArrayList<>();
+        int entryCount = 0;
+        if (Files.exists(journalPath)) {
+            try {
+                List<JsonAdaptedJournalEntry> entries = readJournal(journalPath);
+                persons = replay(persons, entries);
+                entryCount = entries.size();
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Error replaying journal " + journalPath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+        }
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = AddressBookSnapshot.ofUniquePersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataLoadingException(new IllegalValueException(
+                    String.format(MESSAGE_DUPLICATE_PERSON, String.join(", ", dpe.getDuplicateNames()))));
+        }
+
+        persistedFilePath = filePath;
+        persistedPersons = persons;
+        journalEntryCount = entryCount;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Saves the given address book to the specified file path, appending only the changes made since the last
+     * save to the journal whenever possible.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        List<JsonAdaptedJournalEntry> entries = filePath.equals(persistedFilePath)
+                ? diff(persistedPersons, persons)
+                : null;
+
+        if (entries == null || journalEntryCount + entries.size() > compactionThreshold) {
+            compact(addressBook, persons, filePath);
+            return;
+        }
+
+        if (!entries.isEmpty()) {
+            StringBuilder lines = new StringBuilder();
+            for (JsonAdaptedJournalEntry entry : entries) {
+                lines.append(JsonUtil.toJsonLine(entry)).append(System.lineSeparator());
+            }
+            try {
+                FileUtil.appendToFile(getJournalFilePath(filePath), lines.toString());
+            } catch (IOException e) {
+                // only some of the entries may have been appended, so the next save compacts instead of appending
+                persistedFilePath = null;
+                throw e;
+            }
+            journalEntryCount += entries.size();
+        }
+        persistedPersons = persons;
+    }
+
+    /**
+     * Writes {@code addressBook} as a fresh snapshot at {@code filePath} and discards its journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, List<Person> persons, Path filePath) throws IOException {
+        logger.fine("Compacting address book journal into snapshot " + filePath);
+        Path snapshotTempPath = FileUtil.getTempFilePath(filePath);
+        snapshotStorage.saveAddressBook(addressBook, snapshotTempPath);
+        FileUtil.deleteDurably(getJournalFilePath(filePath));
+        FileUtil.moveAtomically(snapshotTempPath, filePath);
+        DataFileChecksum.move(snapshotTempPath, filePath);
+
+        persistedFilePath = filePath;
+        persistedPersons = persons;
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Returns the journal entries that turn {@code oldPersons} into {@code newPersons} when replayed, or null if
+     * the change cannot be expressed as in-place edits, deletions and appends (e.g. the persons were reordered).
+     */
+    static List<JsonAdaptedJournalEntry> diff(List<Person> oldPersons, List<Person> newPersons) {
+        Set<String> oldNames = new HashSet<>();
+        for (Person person : oldPersons) {
+            oldNames.add(person.getNameValue());
+        }
+        Set<String> newNames = new HashSet<>();
+        for (Person person : newPersons) {
+            newNames.add(person.getNameValue());
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < oldPersons.size() && j < newPersons.size()) {
+            Person oldPerson = oldPersons.get(i);
+            Person newPerson = newPersons.get(j);
+            if (oldPerson.isSamePerson(newPerson)) {
+                if (oldPerson != newPerson && !oldPerson.equals(newPerson)) {
+                    entries.add(JsonAdaptedJournalEntry.edit(oldPerson, newPerson));
+                }
+                i++;
+                j++;
+            } else if (!newNames.contains(oldPerson.getNameValue())) {
+                if (oldNames.contains(newPerson.getNameValue())) {
+                    entries.add(JsonAdaptedJournalEntry.delete(oldPerson));
+                } else {
+                    // the person was renamed in place
+                    entries.add(JsonAdaptedJournalEntry.edit(oldPerson, newPerson));
+                    j++;
+                }
+                i++;
+            } else {
+                return null;
+            }
+        }
+        for (; i < oldPersons.size(); i++) {
+            Person oldPerson = oldPersons.get(i);
+            if (newNames.contains(oldPerson.getNameValue())) {
+                return null;
+            }
+            entries.add(JsonAdaptedJournalEntry.delete(oldPerson));
+        }
+        for (; j < newPersons.size(); j++) {
+            Person newPerson = newPersons.get(j);
+            if (oldNames.contains(newPerson.getNameValue())) {
+                return null;
+            }
+            entries.add(JsonAdaptedJournalEntry.add(newPerson));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the persons obtained by applying {@code entries} in order to {@code persons}.
+     *
+     * @throws IllegalValueException if an entry is malformed or refers to a person that does not exist.
+     */
+    static List<Person> replay(List<Person> persons, List<JsonAdaptedJournalEntry> entries)
+            throws IllegalValueException {
+        // Deleted slots are left as null so that the positions of the other persons stay valid during replay.
+        List<Person> slots = new ArrayList<>(persons);
+        Map<String, Integer> slotOfName = new HashMap<>();
+        for (int i = 0; i < slots.size(); i++) {
+            slotOfName.put(slots.get(i).getNameValue(), i);
+        }
+
+        for (JsonAdaptedJournalEntry entry : entries) {
+            entry.verifyFields();
+            switch (entry.getOperation()) {
+            case ADD:
+                Person added = entry.toModelPerson();
+                slotOfName.put(added.getNameValue(), slots.size());
+                slots.add(added);
+                break;
+            case EDIT:
+                int editedSlot = removeSlot(slotOfName, entry.getTarget());
+                Person edited = entry.toModelPerson();
+                slotOfName.put(edited.getNameValue(), editedSlot);
+                slots.set(editedSlot, edited);
+                break;
+            case DELETE:
+                slots.set(removeSlot(slotOfName, entry.getTarget()), null);
+                break;
+            default:
+                throw new AssertionError("Unknown journal operation: " + entry.getOperation());
+            }
+        }
+
+        List<Person> result = new ArrayList<>(slotOfName.size());
+        for (Person person : slots) {
+            if (person != null) {
+                result.add(person);
+            }
+        }
+        return result;
+    }
+
+    private static int removeSlot(Map<String, Integer> slotOfName, String target) throws IllegalValueException {
+        Integer slot = slotOfName.remove(target);
+        if (slot == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TARGET, target));
+        }
+        return slot;
+    }
+
+    private static List<JsonAdaptedJournalEntry> readJournal(Path journalPath) throws IOException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (String line : FileUtil.readCompleteLines(journalPath)) {
+            if (!line.isBlank()) {
+                entries.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single mutation recorded in the address book journal.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    /**
+     * Represents the kind of mutation a journal entry records.
+     */
+    enum Operation {
+        ADD,
+        EDIT,
+        DELETE
+    }
+
+    private final Operation operation;
+    private final String target;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") Operation operation,
+                                   @JsonProperty("target") String target,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.operation = operation;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Creates an entry recording that {@code person} was appended to the address book.
+     */
+    public static JsonAdaptedJournalEntry add(Person person) {
+        return new JsonAdaptedJournalEntry(Operation.ADD, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Creates an entry recording that the person named {@code target} was replaced in place by {@code person}.
+     */
+    public static JsonAdaptedJournalEntry edit(Person target, Person person) {
+        return new JsonAdaptedJournalEntry(Operation.EDIT, target.getNameValue(), new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Creates an entry recording that the person named {@code target} was removed from the address book.
+     */
+    public static JsonAdaptedJournalEntry delete(Person target) {
+        return new JsonAdaptedJournalEntry(Operation.DELETE, target.getNameValue(), null);
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Converts the person carried by this entry into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if the person is missing or there were any data constraints violated.
+     */
+    public Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} if the fields required by this entry's operation are missing.
+     */
+    public void verifyFields() throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        if (operation != Operation.ADD && target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+    }
+}
@@ -3,13 +3,14 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -26,7 +27,9 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * Fields that are null, which only the partial persons of an edit recorded in the undo history have, are left out.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
@@ -67,19 +70,55 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
-        name = source.getName().fullName;
-        phone = source.getPhone().value;
-        email = source.getEmail().value;
-        address = source.getAddress().value;
-        birthday = source.getBirthday().map(b -> b.value).orElse("");
-        relationship = source.getRelationship().map(b->b.relationship).orElse("");
-        nickname = source.getNickname().map(Nickname::toString).orElse("");
-        notes = source.getNotes().map(Notes::toString).orElse("");
+        name = source.getNameValue();
+        phone = source.getPhoneValue();
+        email = source.getEmailValue();
+        address = source.getAddressValue();
+        birthday = source.getBirthdayValue();
+        relationship = source.getRelationshipValue();
+        nickname = source.getNicknameValue();
+        notes = source.getNotesValue();
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns a partial person holding the text fields of {@code original} that differ from those of this person,
+     * with null for the others, and the tags of {@code original}.
+     */
+    JsonAdaptedPerson getFieldsChangedFrom(JsonAdaptedPerson original) {
+        return new JsonAdaptedPerson(getChangedValue(original.name, name), getChangedValue(original.phone, phone),
+                getChangedValue(original.email, email), getChangedValue(original.address, address),
+                getChangedValue(original.birthday, birthday), getChangedValue(original.relationship, relationship),
+                getChangedValue(original.nickname, nickname), getChangedValue(original.notes, notes),
+                original.tags);
+    }
+
+    /**
+     * Returns this person with the non-null text fields and the tags of {@code changedFields} in place of its own,
+     * undoing {@link #getFieldsChangedFrom(JsonAdaptedPerson)}.
+     */
+    JsonAdaptedPerson withChangedFields(JsonAdaptedPerson changedFields) {
+        return new JsonAdaptedPerson(getValueOrElse(changedFields.name, name),
+                getValueOrElse(changedFields.phone, phone),
+                getValueOrElse(changedFields.email, email),
+                getValueOrElse(changedFields.address, address),
+                getValueOrElse(changedFields.birthday, birthday),
+                getValueOrElse(changedFields.relationship, relationship),
+                getValueOrElse(changedFields.nickname, nickname),
+                getValueOrElse(changedFields.notes, notes),
+                changedFields.tags);
+    }
+
+    private static String getChangedValue(String value, String otherValue) {
+        return Objects.equals(value, otherValue) ? null : value;
+    }
+
+    private static String getValueOrElse(String value, String otherValue) {
+        return value != null ? value : otherValue;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -91,16 +130,16 @@ class JsonAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
-        final Name modelName = parseRequiredField(name, Name::new, Name::isValidName,
+        final Name modelName = parseRequiredField(name, Name::new,
                 String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()), Name.MESSAGE_CONSTRAINTS);
 
-        final Phone modelPhone = parseRequiredField(phone, Phone::new, Phone::isValidPhone,
+        final Phone modelPhone = parseRequiredField(phone, Phone::new,
                 String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()), Phone.MESSAGE_CONSTRAINTS);
 
-        final Email modelEmail = parseRequiredField(email, Email::new, Email::isValidEmail,
+        final Email modelEmail = parseRequiredField(email, Email::new,
                 String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()), Email.MESSAGE_CONSTRAINTS);
 
-        final Address modelAddress = parseRequiredField(address, Address::new, Address::isValidAddress,
+        final Address modelAddress = parseRequiredField(address, Address::new,
                 String.format(MISSING_FIELD_MESSAGE_FORMAT,
                         Address.class.getSimpleName()), Address.MESSAGE_CONSTRAINTS);
 
@@ -114,28 +153,47 @@ class JsonAdaptedPerson {
                 modelBirthday, modelRelationship, modelNickname, modelNotes, modelTags);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object without validating
+     * its fields. Only for persons read from a data file that is unchanged since this app saved it.
+     */
+    public Person toTrustedModelType() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+
+        return new Person(Name.fromTrusted(name), Phone.fromTrusted(phone), Email.fromTrusted(email),
+                Address.fromTrusted(address), parseTrustedOptionalField(birthday, Birthday::fromTrusted),
+                parseTrustedOptionalField(relationship, Relationship::fromTrusted),
+                parseTrustedOptionalField(nickname, Nickname::fromTrusted),
+                parseTrustedOptionalField(notes, Notes::fromTrusted), modelTags);
+    }
+
     /**
      * Parses a required field from its string representation into the corresponding model object.
      *
      * @param <T>             The type of the model object to be constructed.
      * @param value           The string representation of the field.
-     * @param constructor     A function that constructs the model object from a valid string.
-     * @param validator       A predicate that checks the validity of the string.
+     * @param constructor     A function that constructs the model object from the string, which throws an
+     *                        {@code IllegalArgumentException} if the string is invalid.
      * @param missingMessage  The error message to throw if the value is null.
      * @param invalidMessage  The error message to throw if the value is invalid.
      * @return The constructed model object.
      * @throws IllegalValueException If the value is null or invalid.
      */
     private <T> T parseRequiredField(String value, Function<String, T> constructor,
-                                     Predicate<String> validator, String missingMessage, String invalidMessage)
+                                     String missingMessage, String invalidMessage)
             throws IllegalValueException {
         if (value == null) {
             throw new IllegalValueException(missingMessage);
         }
-        if (!validator.test(value)) {
+        // the constructor validates the value, so it is not validated separately beforehand
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException e) {
             throw new IllegalValueException(invalidMessage);
         }
-        return constructor.apply(value);
     }
 
     /**
@@ -159,4 +217,8 @@ class JsonAdaptedPerson {
         }
     }
 
+    private static <T> Optional<T> parseTrustedOptionalField(String value, Function<String, T> constructor) {
+        return value == null || value.isEmpty() ? Optional.empty() : Optional.of(constructor.apply(value));
+    }
+
 }
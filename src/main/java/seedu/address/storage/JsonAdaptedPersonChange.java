@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.PersonChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDelta;
+
+/**
+ * Jackson-friendly version of {@link PersonChange}.
+ * An edit keeps the edited person whole, but only the fields of the original person that the edit changed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedPersonChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String MESSAGE_WRONG_PERSON_COUNT = "Change of kind %s must have %s person(s)!";
+
+    private final PersonChange.Kind kind;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final JsonAdaptedPerson original;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonChange(@JsonProperty("kind") PersonChange.Kind kind,
+                                   @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                   @JsonProperty("original") JsonAdaptedPerson original) {
+        this.kind = kind;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        this.original = original;
+    }
+
+    /**
+     * Converts a given {@code PersonChange} into this class for Jackson use.
+     */
+    public JsonAdaptedPersonChange(PersonChange source) {
+        kind = source.getKind();
+        for (Person person : source.getPersons()) {
+            persons.add(new JsonAdaptedPerson(person));
+        }
+        original = kind == PersonChange.Kind.EDIT
+                ? persons.get(0).getFieldsChangedFrom(new JsonAdaptedPerson(source.getEdit().getOriginal()))
+                : null;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code PersonChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public PersonChange toModelType() throws IllegalValueException {
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "kind"));
+        }
+
+        switch (kind) {
+        case ADD:
+            requirePersonCount("exactly one", persons.size() == 1);
+            return PersonChange.added(persons.get(0).toModelType());
+        case EDIT:
+            requirePersonCount("exactly one", persons.size() == 1);
+            if (original == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "original"));
+            }
+            Person edited = persons.get(0).toModelType();
+            Person originalPerson = persons.get(0).withChangedFields(original).toModelType();
+            return PersonChange.edited(PersonDelta.between(originalPerson, edited));
+        case DELETE:
+            requirePersonCount("at least one", !persons.isEmpty());
+            List<Person> deleted = new ArrayList<>();
+            for (JsonAdaptedPerson person : persons) {
+                deleted.add(person.toModelType());
+            }
+            return PersonChange.deleted(deleted);
+        default:
+            throw new AssertionError("Unknown kind of change: " + kind);
+        }
+    }
+
+    private void requirePersonCount(String expectedCount, boolean isExpectedCount) throws IllegalValueException {
+        if (!isExpectedCount) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_PERSON_COUNT, kind, expectedCount));
+        }
+    }
+}
@@ -39,10 +39,18 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
+        try {
+            return new Tag(tagName);
+        } catch (IllegalArgumentException e) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object without validating it.
+     */
+    public Tag toTrustedModelType() {
+        return Tag.fromTrusted(tagName);
     }
 
 }
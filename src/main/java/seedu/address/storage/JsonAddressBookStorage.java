@@ -1,18 +1,33 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * A checksum is recorded next to each saved file, and a file that still matches it is loaded without validating
+ * the fields of every person again.
  */
 public class JsonAddressBookStorage extends JsonStorage<ReadOnlyAddressBook, JsonSerializableAddressBook>
         implements AddressBookStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+
     public JsonAddressBookStorage(Path filePath) {
         super(filePath, JsonSerializableAddressBook.class);
     }
@@ -27,6 +42,53 @@ public class JsonAddressBookStorage extends JsonStorage<ReadOnlyAddressBook, Jso
         return new JsonSerializableAddressBook(data);
     }
 
+    /**
+     * Reads the address book at {@code filePath} by streaming its persons one at a time,
+     * so that peak memory use stays close to the size of the resulting model.
+     * The persons are only validated if the file has changed since this app saved it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the file format is not as expected.
+     */
+    @Override
+    protected Optional<ReadOnlyAddressBook> readFile(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        boolean isTrusted = DataFileChecksum.matches(filePath);
+        if (isTrusted) {
+            logger.fine(filePath + " is unchanged since it was saved, skipping validation");
+        }
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.readModelType(parser, isTrusted));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from address book file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Saves the given address book to the specified file path, and records its checksum next to it.
+     * The file is replaced atomically, so an interrupted save never leaves it partially written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void save(ReadOnlyAddressBook data, Path filePath) throws IOException {
+        requireNonNull(data);
+        requireNonNull(filePath);
+
+        byte[] content = JsonUtil.toJsonString(createSerializable(data)).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFile(filePath, content);
+        DataFileChecksum.write(filePath, content);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return read();
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,11 +8,14 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -19,7 +23,8 @@ import seedu.address.model.person.Person;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook implements JsonSerializable<ReadOnlyAddressBook> {
 
-    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s): %s";
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Address book data must be a JSON object.";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -42,19 +47,72 @@ class JsonSerializableAddressBook implements JsonSerializable<ReadOnlyAddressBoo
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * All persons are loaded in bulk, so duplicates are detected in a single pass over the list.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return new AddressBook(toReadOnlyAddressBook(modelPersons));
+    }
+
+    /**
+     * Reads an address book from {@code parser} without materialising this class or the full list of
+     * {@code JsonAdaptedPerson}s: each element of the {@code persons} array is converted into a {@code Person}
+     * as soon as it is read.
+     *
+     * @param parser positioned before the root object of the address book data.
+     * @throws IOException if the data is not valid JSON or could not be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ReadOnlyAddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        return readModelType(parser, false);
+    }
+
+    /**
+     * Reads an address book from {@code parser} like {@link #readModelType(JsonParser)}, but without validating the
+     * fields of each person if {@code isTrusted}. Only data that is unchanged since this app saved it is trusted.
+     *
+     * @param parser positioned before the root object of the address book data.
+     * @throws IOException if the data is not valid JSON or could not be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ReadOnlyAddressBook readModelType(JsonParser parser, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        List<Person> modelPersons = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!"persons".equals(fieldName) || valueToken != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedPerson jsonAdaptedPerson = parser.readValueAs(JsonAdaptedPerson.class);
+                modelPersons.add(isTrusted ? jsonAdaptedPerson.toTrustedModelType() : jsonAdaptedPerson.toModelType());
             }
-            addressBook.addPerson(person);
         }
-        return addressBook;
+        return toReadOnlyAddressBook(modelPersons);
+    }
+
+    /**
+     * Returns a read-only address book of {@code modelPersons}, without building the indexes of an
+     * {@code AddressBook}, reporting duplicates as an {@code IllegalValueException}.
+     */
+    static ReadOnlyAddressBook toReadOnlyAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        try {
+            return AddressBookSnapshot.ofUniquePersons(modelPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_DUPLICATE_PERSON, String.join(", ", dpe.getDuplicateNames())));
+        }
     }
 
 }
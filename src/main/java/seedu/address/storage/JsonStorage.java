@@ -10,7 +10,6 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 
 /**
@@ -44,14 +43,23 @@ public abstract class JsonStorage<T, S extends JsonSerializable<T>> {
     }
 
     /**
-     * Reads data from the specified file path.
+     * Reads data from the specified file path, recovering it if a previous save was interrupted.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if the file format is not as expected.
      */
     public Optional<T> read(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        return DataFileRecovery.readNewestValid(filePath, this::readFile);
+    }
 
+    /**
+     * Reads data from exactly the specified file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the file format is not as expected.
+     */
+    protected Optional<T> readFile(Path filePath) throws DataLoadingException {
         Optional<S> jsonData = JsonUtil.readJsonFile(filePath, serializableClass);
         if (jsonData.isEmpty()) {
             return Optional.empty();
@@ -71,6 +79,7 @@ public abstract class JsonStorage<T, S extends JsonSerializable<T>> {
 
     /**
      * Saves the given data to the specified file path.
+     * The file is replaced atomically, so an interrupted save never leaves it partially written.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -78,7 +87,6 @@ public abstract class JsonStorage<T, S extends JsonSerializable<T>> {
         requireNonNull(data);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(createSerializable(data), filePath);
     }
 
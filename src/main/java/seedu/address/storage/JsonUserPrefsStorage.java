@@ -36,7 +36,7 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
      * @throws DataLoadingException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataLoadingException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        return DataFileRecovery.readNewestValid(prefsFilePath, file -> JsonUtil.readJsonFile(file, UserPrefs.class));
     }
 
     @Override
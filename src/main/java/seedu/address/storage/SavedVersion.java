@@ -0,0 +1,34 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+
+/**
+ * Remembers which version of a data object was last saved to which file,
+ * so that saving the same, unchanged data again can be skipped.
+ * Data whose version is negative does not track its modifications and is never considered saved.
+ */
+class SavedVersion {
+
+    private Object savedData;
+    private long savedVersion;
+    private Path savedFilePath;
+
+    /**
+     * Returns true if {@code data} at {@code version} is what was last saved to {@code filePath}.
+     */
+    public boolean isSaved(Object data, long version, Path filePath) {
+        return version >= 0
+                && data == savedData
+                && version == savedVersion
+                && filePath.equals(savedFilePath);
+    }
+
+    /**
+     * Records that {@code data} at {@code version} has been saved to {@code filePath}.
+     */
+    public void markSaved(Object data, long version, Path filePath) {
+        savedData = data;
+        savedVersion = version;
+        savedFilePath = filePath;
+    }
+}
@@ -29,4 +29,21 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, CommandHi
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves the steps taken on the commands to undo and redo since {@code undoHistory} was last saved.
+     * They are written no earlier than the address book data passed to the save methods before this call, so that
+     * the undo history on the hard disk never has changes that the address book there does not.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveUndoHistory(UndoHistoryStorage undoHistory) throws IOException;
+
+    /**
+     * Blocks until all data passed to the save methods has been written out.
+     * Storages that write synchronously have nothing to flush.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    default void flush() throws IOException {}
+
 }
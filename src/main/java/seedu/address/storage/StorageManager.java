@@ -14,6 +14,7 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Data that has not been modified since it was last saved to the same file is not saved again.
  */
 public class StorageManager implements Storage {
 
@@ -21,6 +22,9 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private CommandHistoryStorage commandHistoryStorage;
+    private final SavedVersion savedAddressBook = new SavedVersion();
+    private final SavedVersion savedUserPrefs = new SavedVersion();
+    private final SavedVersion savedCommandHistory = new SavedVersion();
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -46,7 +50,14 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        Path filePath = userPrefsStorage.getUserPrefsFilePath();
+        long version = userPrefs.getVersion();
+        if (savedUserPrefs.isSaved(userPrefs, version, filePath)) {
+            logger.fine("User prefs unchanged since last save, skipping write to: " + filePath);
+            return;
+        }
         userPrefsStorage.saveUserPrefs(userPrefs);
+        savedUserPrefs.markSaved(userPrefs, version, filePath);
     }
 
     // ================ CommandHistory methods ==============================
@@ -69,13 +80,19 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveCommandHistory(ReadOnlyCommandHistory commandHistory) throws IOException {
-        commandHistoryStorage.saveCommandHistory(commandHistory);
+        saveCommandHistory(commandHistory, commandHistoryStorage.getCommandHistoryFilePath());
     }
 
     @Override
     public void saveCommandHistory(ReadOnlyCommandHistory commandHistory, Path filePath) throws IOException {
+        long version = commandHistory.getVersion();
+        if (savedCommandHistory.isSaved(commandHistory, version, filePath)) {
+            logger.fine("Command history unchanged since last save, skipping write to: " + filePath);
+            return;
+        }
         logger.fine("Attempting to write to data file: " + filePath);
         commandHistoryStorage.saveCommandHistory(commandHistory, filePath);
+        savedCommandHistory.markSaved(commandHistory, version, filePath);
     }
 
     // ================ AddressBook methods ==============================
@@ -103,8 +120,21 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        long version = addressBook.getVersion();
+        if (savedAddressBook.isSaved(addressBook, version, filePath)) {
+            logger.fine("Address book unchanged since last save, skipping write to: " + filePath);
+            return;
+        }
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        savedAddressBook.markSaved(addressBook, version, filePath);
+    }
+
+    // ================ UndoHistory methods ==============================
+
+    @Override
+    public void saveUndoHistory(UndoHistoryStorage undoHistory) throws IOException {
+        undoHistory.save();
     }
 
 }
@@ -0,0 +1,35 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PersonChange;
+
+/**
+ * A change kept in the undo history on the hard disk, which is only parsed when it is loaded.
+ *
+ * @see UndoHistoryStorage
+ */
+public class StoredPersonChange {
+
+    private final String record;
+
+    StoredPersonChange(String record) {
+        this.record = record;
+    }
+
+    /**
+     * Parses the change.
+     *
+     * @throws DataLoadingException if the change is not in the expected format.
+     */
+    public PersonChange load() throws DataLoadingException {
+        try {
+            return JsonUtil.fromJsonString(record, JsonAdaptedPersonChange.class).toModelType();
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+}
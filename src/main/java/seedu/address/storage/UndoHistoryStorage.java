@@ -0,0 +1,404 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PersonChange;
+
+/**
+ * A class to keep the commands that can be undone and redone across sessions, as an append-only log on the hard disk
+ * next to the address book data file.
+ * <p>
+ * Each line of the log records one step taken on the stacks of commands to undo and to redo: a command pushed onto
+ * either stack with the change it made, a command moved from one stack to the other by an undo or a redo, the command
+ * on top of the undo stack dropped, or the redo stack cleared. Saving appends the steps taken since the previous
+ * save, and the steps can also be taken to be written later, after the address book data they describe. Once the
+ * log would hold more than {@code MAX_LINES_PER_COMMAND} lines per command that can be kept, it is rewritten with a
+ * single push for each command kept.
+ * <p>
+ * Reading the log replays its steps over the records of the changes as raw lines, so that a change is only parsed
+ * when its command is undone or redone. A command whose change cannot be kept is pushed without one, and is not
+ * restored together with the commands below it, as undoing those would skip its change.
+ * A last line torn by a crash in the middle of an append is discarded.
+ */
+public class UndoHistoryStorage {
+
+    public static final String FILE_SUFFIX = ".undo";
+    public static final int MAX_LINES_PER_COMMAND = 4;
+
+    public static final String MESSAGE_UNKNOWN_STEP = "Unknown undo history step: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(UndoHistoryStorage.class);
+
+    private static final char PUSH_UNDO = 'P';
+    private static final char PUSH_REDO = 'Q';
+    private static final char UNDO = 'U';
+    private static final char REDO = 'R';
+    private static final char DROP_UNDO = 'D';
+    private static final char CLEAR_REDO = 'C';
+    // the record of a command whose change cannot be kept
+    private static final String NO_RECORD = "";
+
+    private final Path filePath;
+    private int capacity = Integer.MAX_VALUE;
+
+    // The records of the commands to undo and to redo as last read or saved, and then changed by the steps taken
+    // since, with the most recent command at the head of each.
+    private final Deque<String> undoRecords = new ArrayDeque<>();
+    private final Deque<String> redoRecords = new ArrayDeque<>();
+    private final StringBuilder pendingLines = new StringBuilder();
+    private int pendingLineCount;
+    private int lineCount;
+    private boolean isRewriteNeeded;
+
+    public UndoHistoryStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the undo history that accompanies the address book at {@code addressBookFilePath}.
+     */
+    public static Path getUndoHistoryFilePath(Path addressBookFilePath) {
+        return Paths.get(addressBookFilePath.toString() + FILE_SUFFIX);
+    }
+
+    public Path getUndoHistoryFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Sets the number of commands kept to undo, and to redo, dropping the oldest ones beyond it.
+     * Every command is kept until it is set.
+     */
+    public synchronized void setCapacity(int capacity) {
+        assert capacity > 0;
+        this.capacity = capacity;
+        trim(undoRecords);
+        trim(redoRecords);
+    }
+
+    /**
+     * Reads the log, replacing the commands kept with the ones that can be restored from it.
+     *
+     * @throws DataLoadingException if the log is not in the expected format, in which case no commands are kept and
+     *     the log is rewritten on the next save.
+     */
+    public void read() throws DataLoadingException {
+        undoRecords.clear();
+        redoRecords.clear();
+        pendingLines.setLength(0);
+        pendingLineCount = 0;
+        lineCount = 0;
+        isRewriteNeeded = false;
+        if (!Files.exists(filePath)) {
+            return;
+        }
+
+        try {
+            List<String> lines = FileUtil.readCompleteLines(filePath);
+            for (String line : lines) {
+                if (!line.isBlank()) {
+                    replay(line);
+                }
+            }
+            lineCount = lines.size();
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading undo history " + filePath + ": " + e);
+            undoRecords.clear();
+            redoRecords.clear();
+            isRewriteNeeded = true;
+            throw new DataLoadingException(e);
+        }
+
+        boolean isUndoDiscarded = discardFromNoRecord(undoRecords);
+        boolean isRedoDiscarded = discardFromNoRecord(redoRecords);
+        isRewriteNeeded = isUndoDiscarded || isRedoDiscarded;
+    }
+
+    /**
+     * Returns the changes of the commands read that can be undone, most recent first.
+     */
+    public List<StoredPersonChange> getUndoableChanges() {
+        return undoRecords.stream().map(StoredPersonChange::new).toList();
+    }
+
+    /**
+     * Returns the changes of the commands read that can be redone, most recently undone first.
+     */
+    public List<StoredPersonChange> getRedoableChanges() {
+        return redoRecords.stream().map(StoredPersonChange::new).toList();
+    }
+
+    /**
+     * Records that a command that made {@code change} was pushed onto the undo stack.
+     * An empty {@code change} records a command whose change cannot be kept.
+     */
+    public synchronized void push(Optional<PersonChange> change) {
+        String record = toRecord(change);
+        push(undoRecords, record);
+        addStep(PUSH_UNDO, record);
+    }
+
+    /**
+     * Records that the command on top of the undo stack was moved onto the redo stack.
+     */
+    public synchronized void undo() {
+        move(undoRecords, redoRecords);
+        addStep(UNDO, NO_RECORD);
+    }
+
+    /**
+     * Records that the command on top of the redo stack was moved onto the undo stack.
+     */
+    public synchronized void redo() {
+        move(redoRecords, undoRecords);
+        addStep(REDO, NO_RECORD);
+    }
+
+    /**
+     * Records that the command on top of the undo stack was dropped.
+     */
+    public synchronized void dropUndo() {
+        undoRecords.pollFirst();
+        addStep(DROP_UNDO, NO_RECORD);
+    }
+
+    /**
+     * Records that the redo stack was cleared.
+     */
+    public synchronized void clearRedo() {
+        redoRecords.clear();
+        addStep(CLEAR_REDO, NO_RECORD);
+    }
+
+    /**
+     * Records that both stacks were cleared.
+     */
+    public synchronized void clear() {
+        undoRecords.clear();
+        redoRecords.clear();
+        pendingLines.setLength(0);
+        pendingLineCount = 0;
+        isRewriteNeeded = true;
+    }
+
+    /**
+     * Writes the steps recorded since the last save to the log.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void save() throws IOException {
+        Optional<PendingWrite> write = takePendingWrite();
+        if (write.isPresent()) {
+            write.get().write();
+        }
+    }
+
+    /**
+     * Returns the write that adds the steps recorded since the last save to the log, to be done later and possibly
+     * on another thread, and considers those steps saved. Returns an empty {@code Optional} if there is nothing to
+     * write. The writes taken must be done in the order they were taken.
+     */
+    synchronized Optional<PendingWrite> takePendingWrite() {
+        if (pendingLineCount == 0 && !isRewriteNeeded) {
+            return Optional.empty();
+        }
+
+        PendingWrite write;
+        if (isRewriteNeeded || !Files.exists(filePath)
+                || lineCount + pendingLineCount > (long) MAX_LINES_PER_COMMAND * capacity) {
+            write = new PendingWrite(getRewrittenLines(), true);
+            lineCount = undoRecords.size() + redoRecords.size();
+            isRewriteNeeded = false;
+        } else {
+            write = new PendingWrite(pendingLines.toString(), false);
+            lineCount += pendingLineCount;
+        }
+        pendingLines.setLength(0);
+        pendingLineCount = 0;
+        return Optional.of(write);
+    }
+
+    /**
+     * Returns the write that replaces the log with a single push for each command kept, and considers every step
+     * saved. Returns an empty {@code Optional} instead if steps were recorded since the last write was taken, in which
+     * case the next write taken replaces the log.
+     */
+    synchronized Optional<PendingWrite> takeRewrite() {
+        isRewriteNeeded = true;
+        if (pendingLineCount > 0) {
+            return Optional.empty();
+        }
+        return takePendingWrite();
+    }
+
+    /**
+     * Returns a log that pushes each command kept onto its stack, oldest first.
+     */
+    private String getRewrittenLines() {
+        StringBuilder lines = new StringBuilder();
+        for (Iterator<String> records = undoRecords.descendingIterator(); records.hasNext();) {
+            appendStep(lines, PUSH_UNDO, records.next());
+        }
+        for (Iterator<String> records = redoRecords.descendingIterator(); records.hasNext();) {
+            appendStep(lines, PUSH_REDO, records.next());
+        }
+        return lines.toString();
+    }
+
+    synchronized void markWriteFailed() {
+        // the log may end with only some of the steps now, so it is rewritten as a whole on the next save
+        isRewriteNeeded = true;
+    }
+
+    private void replay(String line) throws IllegalValueException {
+        if (line.length() > 1 && line.charAt(1) != ' ') {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_STEP, line));
+        }
+        String record = line.length() > 2 ? line.substring(2) : NO_RECORD;
+        switch (line.charAt(0)) {
+        case PUSH_UNDO:
+            push(undoRecords, record);
+            break;
+        case PUSH_REDO:
+            push(redoRecords, record);
+            break;
+        case UNDO:
+            move(undoRecords, redoRecords);
+            break;
+        case REDO:
+            move(redoRecords, undoRecords);
+            break;
+        case DROP_UNDO:
+            undoRecords.pollFirst();
+            break;
+        case CLEAR_REDO:
+            redoRecords.clear();
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_STEP, line));
+        }
+    }
+
+    private void addStep(char step, String record) {
+        appendStep(pendingLines, step, record);
+        pendingLineCount++;
+    }
+
+    private static void appendStep(StringBuilder lines, char step, String record) {
+        lines.append(step);
+        if (!record.isEmpty()) {
+            lines.append(' ').append(record);
+        }
+        lines.append(System.lineSeparator());
+    }
+
+    private void push(Deque<String> records, String record) {
+        records.push(record);
+        trim(records);
+    }
+
+    private void move(Deque<String> from, Deque<String> to) {
+        String record = from.pollFirst();
+        if (record != null) {
+            push(to, record);
+        }
+    }
+
+    private void trim(Deque<String> records) {
+        while (records.size() > capacity) {
+            records.removeLast();
+        }
+    }
+
+    /**
+     * Discards the most recent command in {@code records} whose change was not kept, and every command older than
+     * it. Returns true if any command was discarded.
+     */
+    private static boolean discardFromNoRecord(Deque<String> records) {
+        int keptCount = 0;
+        for (String record : records) {
+            if (record.isEmpty()) {
+                break;
+            }
+            keptCount++;
+        }
+        if (keptCount == records.size()) {
+            return false;
+        }
+        while (records.size() > keptCount) {
+            records.removeLast();
+        }
+        return true;
+    }
+
+    private static String toRecord(Optional<PersonChange> change) {
+        if (change.isEmpty()) {
+            return NO_RECORD;
+        }
+        try {
+            return JsonUtil.toJsonLine(new JsonAdaptedPersonChange(change.get()));
+        } catch (JsonProcessingException e) {
+            logger.warning("Could not keep change in undo history: " + e);
+            return NO_RECORD;
+        }
+    }
+
+    /**
+     * Steps taken from the storage to be written to the log, either appended to it or replacing it.
+     */
+    class PendingWrite {
+        private final String lines;
+        private final boolean isRewrite;
+
+        private PendingWrite(String lines, boolean isRewrite) {
+            this.lines = lines;
+            this.isRewrite = isRewrite;
+        }
+
+        /**
+         * Returns the undo history this write was taken from.
+         */
+        UndoHistoryStorage getUndoHistory() {
+            return UndoHistoryStorage.this;
+        }
+
+        /**
+         * Writes the steps to the log.
+         *
+         * @throws IOException if there was any problem writing to the file, in which case the log is rewritten as a
+         *     whole by the next write taken.
+         */
+        void write() throws IOException {
+            try {
+                if (isRewrite) {
+                    logger.fine("Rewriting undo history " + filePath);
+                    FileUtil.writeToFile(filePath, lines);
+                } else {
+                    FileUtil.appendToFile(filePath, lines);
+                }
+            } catch (IOException ioe) {
+                markWriteFailed();
+                throw ioe;
+            }
+        }
+    }
+}
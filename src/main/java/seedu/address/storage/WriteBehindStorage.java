@@ -0,0 +1,408 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyCommandHistory;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A {@code Storage} that saves the address book, command history and undo history on a single background writer
+ * thread, so that saving does not block the caller on the disk.
+ * <p>
+ * Each save takes a snapshot of the data and returns immediately. The writer saves the latest snapshot at most
+ * {@code maxDelayMillis} after the first unsaved one, so a burst of saves is coalesced into a single write.
+ * Data that has not been modified since it was last handed to the writer is not snapshotted again.
+ * The steps of the undo history are written in order after the address book snapshot taken before them, and are held
+ * back while that snapshot fails to be written. As a failed write may leave only some of its steps in the undo history,
+ * the undo history is rewritten as a whole when retried.
+ * If a background write fails, it is retried with an increasing delay, and the error is thrown by the next save or
+ * {@link #flush()}.
+ * User prefs are rarely saved and are written through synchronously.
+ */
+public class WriteBehindStorage implements Storage {
+
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 500;
+    public static final long MIN_RETRY_DELAY_MILLIS = 100;
+    public static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final long maxDelayMillis;
+    private final ScheduledExecutorService writer;
+    private final SavedVersion queuedAddressBook = new SavedVersion();
+    private final SavedVersion queuedCommandHistory = new SavedVersion();
+
+    // The snapshots waiting to be written, guarded by this.
+    private ReadOnlyAddressBook pendingAddressBook;
+    private Path pendingAddressBookFilePath;
+    private ReadOnlyCommandHistory pendingCommandHistory;
+    private Path pendingCommandHistoryFilePath;
+    private List<UndoHistoryStorage.PendingWrite> pendingUndoHistoryWrites = new ArrayList<>();
+    // the undo history that failed to be written, to be rewritten as a whole by the next write
+    private UndoHistoryStorage failedUndoHistory;
+    private ScheduledFuture<?> scheduledWrite;
+    private IOException writeFailure;
+    // the delay before retrying a failed write, doubled after every failure in a row
+    private long retryDelayMillis;
+
+    public WriteBehindStorage(Storage storage) {
+        this(storage, DEFAULT_MAX_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage} at most {@code maxDelayMillis}
+     * after the first unsaved change.
+     */
+    public WriteBehindStorage(Storage storage, long maxDelayMillis) {
+        requireNonNull(storage);
+        assert maxDelayMillis >= 0;
+        this.storage = storage;
+        this.maxDelayMillis = maxDelayMillis;
+        this.retryDelayMillis = getInitialRetryDelayMillis();
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return storage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyCommandHistory> readCommandHistory() throws DataLoadingException {
+        return readCommandHistory(storage.getCommandHistoryFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyCommandHistory> readCommandHistory(Path filePath) throws DataLoadingException {
+        awaitPendingWrites();
+        return storage.readCommandHistory(filePath);
+    }
+
+    @Override
+    public void saveCommandHistory(ReadOnlyCommandHistory commandHistory) throws IOException {
+        saveCommandHistory(commandHistory, storage.getCommandHistoryFilePath());
+    }
+
+    @Override
+    public void saveCommandHistory(ReadOnlyCommandHistory commandHistory, Path filePath) throws IOException {
+        requireNonNull(commandHistory);
+        requireNonNull(filePath);
+
+        long version = commandHistory.getVersion();
+        if (queuedCommandHistory.isSaved(commandHistory, version, filePath)) {
+            synchronized (this) {
+                throwWriteFailure();
+            }
+            return;
+        }
+
+        CommandHistory snapshot = new CommandHistory(commandHistory);
+        queuedCommandHistory.markSaved(commandHistory, version, filePath);
+        synchronized (this) {
+            pendingCommandHistory = snapshot;
+            pendingCommandHistoryFilePath = filePath;
+            scheduleWrite();
+            throwWriteFailure();
+        }
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        awaitPendingWrites();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        long version = addressBook.getVersion();
+        if (queuedAddressBook.isSaved(addressBook, version, filePath)) {
+            synchronized (this) {
+                throwWriteFailure();
+            }
+            return;
+        }
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        queuedAddressBook.markSaved(addressBook, version, filePath);
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            pendingAddressBookFilePath = filePath;
+            scheduleWrite();
+            throwWriteFailure();
+        }
+    }
+
+    // ================ UndoHistory methods ==============================
+
+    @Override
+    public void saveUndoHistory(UndoHistoryStorage undoHistory) throws IOException {
+        requireNonNull(undoHistory);
+
+        synchronized (this) {
+            Optional<UndoHistoryStorage.PendingWrite> write = undoHistory.takePendingWrite();
+            if (write.isPresent()) {
+                pendingUndoHistoryWrites.add(write.get());
+                scheduleWrite();
+                if (failedUndoHistory == undoHistory) {
+                    // taken after the failure was marked, so it is a rewrite already
+                    failedUndoHistory = null;
+                }
+            }
+            throwWriteFailure();
+        }
+    }
+
+    // ================ Background writing ==============================
+
+    /**
+     * Writes out all pending data and blocks until it is on disk.
+     *
+     * @throws IOException if there was any problem writing to the files, now or in an earlier background write.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while flushing pending writes");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        synchronized (this) {
+            throwWriteFailure();
+        }
+        storage.flush();
+    }
+
+    /**
+     * Blocks until all pending data has been written out, leaving any write failure to be reported by the next
+     * save or flush.
+     */
+    private void awaitPendingWrites() {
+        try {
+            writer.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Unexpected error while writing pending data: " + e.getCause());
+        }
+    }
+
+    private void scheduleWrite() {
+        scheduleWrite(maxDelayMillis);
+    }
+
+    private void scheduleWrite(long delayMillis) {
+        assert Thread.holdsLock(this);
+        if (scheduledWrite == null) {
+            scheduledWrite = writer.schedule(this::writePending, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private long getInitialRetryDelayMillis() {
+        return Math.min(Math.max(maxDelayMillis, MIN_RETRY_DELAY_MILLIS), MAX_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Schedules the snapshots kept after a failed write to be written again, backing off after every failure in a
+     * row so that a full or unplugged disk is not retried in a busy loop.
+     */
+    private void scheduleRetry() {
+        assert Thread.holdsLock(this);
+        scheduleWrite(retryDelayMillis);
+        retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+    }
+
+    private void throwWriteFailure() throws IOException {
+        assert Thread.holdsLock(this);
+        if (writeFailure != null) {
+            IOException failure = writeFailure;
+            writeFailure = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes the pending snapshots. Only ever runs on the writer thread.
+     */
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        Path addressBookFilePath;
+        ReadOnlyCommandHistory commandHistory;
+        Path commandHistoryFilePath;
+        List<UndoHistoryStorage.PendingWrite> undoHistoryWrites;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            addressBookFilePath = pendingAddressBookFilePath;
+            commandHistory = pendingCommandHistory;
+            commandHistoryFilePath = pendingCommandHistoryFilePath;
+            pendingAddressBook = null;
+            pendingCommandHistory = null;
+            takeUndoHistoryRewrite();
+            undoHistoryWrites = pendingUndoHistoryWrites;
+            pendingUndoHistoryWrites = new ArrayList<>();
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+                scheduledWrite = null;
+            }
+        }
+        boolean isFailed = false;
+
+        if (addressBook != null) {
+            try {
+                storage.saveAddressBook(addressBook, addressBookFilePath);
+            } catch (IOException e) {
+                logger.warning("Failed to save address book to " + addressBookFilePath + ": " + e);
+                synchronized (this) {
+                    // keep the snapshot for the next attempt unless a newer one has arrived
+                    if (pendingAddressBook == null) {
+                        pendingAddressBook = addressBook;
+                        pendingAddressBookFilePath = addressBookFilePath;
+                    }
+                    writeFailure = e;
+                }
+                isFailed = true;
+            }
+        }
+
+        if (isFailed) {
+            synchronized (this) {
+                // hold back the undo history, which may describe changes the address book on disk does not have
+                pendingUndoHistoryWrites.addAll(0, undoHistoryWrites);
+            }
+        } else {
+            isFailed = !writeUndoHistory(undoHistoryWrites);
+        }
+
+        if (commandHistory != null) {
+            try {
+                storage.saveCommandHistory(commandHistory, commandHistoryFilePath);
+            } catch (IOException e) {
+                logger.warning("Failed to save command history to " + commandHistoryFilePath + ": " + e);
+                synchronized (this) {
+                    if (pendingCommandHistory == null) {
+                        pendingCommandHistory = commandHistory;
+                        pendingCommandHistoryFilePath = commandHistoryFilePath;
+                    }
+                    writeFailure = e;
+                }
+                isFailed = true;
+            }
+        }
+
+        synchronized (this) {
+            if (isFailed) {
+                scheduleRetry();
+            } else {
+                retryDelayMillis = getInitialRetryDelayMillis();
+            }
+        }
+    }
+
+    /**
+     * Queues the rewrite of the undo history that failed to be written, now that every step taken from it follows an
+     * address book snapshot that is written or about to be. If steps were recorded since, their address book snapshot
+     * may not be saved yet, so the rewrite is left to be taken with them by the next save instead.
+     */
+    private void takeUndoHistoryRewrite() {
+        assert Thread.holdsLock(this);
+        if (failedUndoHistory == null) {
+            return;
+        }
+        Optional<UndoHistoryStorage.PendingWrite> rewrite = failedUndoHistory.takeRewrite();
+        if (rewrite.isPresent()) {
+            pendingUndoHistoryWrites.add(rewrite.get());
+            failedUndoHistory = null;
+        }
+    }
+
+    /**
+     * Writes {@code writes} to the undo history in order, stopping at the first that fails. The writes taken from the
+     * same undo history after it are dropped then, as they would append to an undo history that may end with only
+     * some of the steps, and it is rewritten as a whole when retried. Only ever runs on the writer thread.
+     *
+     * @return false if a write failed.
+     */
+    private boolean writeUndoHistory(List<UndoHistoryStorage.PendingWrite> writes) {
+        for (UndoHistoryStorage.PendingWrite write : writes) {
+            try {
+                write.write();
+            } catch (IOException e) {
+                logger.warning("Failed to save undo history: " + e);
+                UndoHistoryStorage undoHistory = write.getUndoHistory();
+                synchronized (this) {
+                    pendingUndoHistoryWrites.removeIf(pendingWrite -> pendingWrite.getUndoHistory() == undoHistory);
+                    // marked again, in case a rewrite dropped above was taken after the failure was first marked
+                    undoHistory.markWriteFailed();
+                    failedUndoHistory = undoHistory;
+                    writeFailure = e;
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+}
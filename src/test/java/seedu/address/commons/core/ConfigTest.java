@@ -12,7 +12,8 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", undoHistoryLimit=" + config.getUndoHistoryLimit() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,24 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class StorageFormatTest {
+
+    @Test
+    public void getDataFilePath_json_samePath() {
+        assertEquals(Paths.get("data", "addressbook.json"),
+                StorageFormat.JSON.getDataFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void getDataFilePath_binary_ownFile() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                StorageFormat.BINARY.getDataFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                StorageFormat.BINARY.getDataFilePath(Paths.get("data", "addressbook")));
+    }
+}
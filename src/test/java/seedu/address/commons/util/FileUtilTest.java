@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,27 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_replacesContentWithoutLeavingTempFile() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void readCompleteLines_incompleteLastLine_discardsAndTruncates() throws Exception {
+        Path file = testFolder.resolve("log.txt");
+        Files.writeString(file, "first\r\nsecond\nthi");
+
+        assertEquals(Arrays.asList("first", "second"), FileUtil.readCompleteLines(file));
+        assertEquals("first\r\nsecond\n", FileUtil.readFromFile(file));
+
+        // appending after truncation starts a fresh line
+        FileUtil.appendToFile(file, "third\n");
+        assertEquals(Arrays.asList("first", "second", "third"), FileUtil.readCompleteLines(file));
+    }
+
 }
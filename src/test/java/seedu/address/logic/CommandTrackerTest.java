@@ -0,0 +1,164 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RestoredCommand;
+import seedu.address.logic.commands.UndoableCommand;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.UndoHistoryStorage;
+
+public class CommandTrackerTest {
+
+    private final CommandTracker commandTracker = CommandTracker.getInstance();
+
+    @TempDir
+    public Path testFolder;
+
+    @BeforeEach
+    public void setUp() {
+        commandTracker.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandTracker.detachStorage();
+        commandTracker.setCapacity(CommandTracker.DEFAULT_CAPACITY);
+        commandTracker.clear();
+    }
+
+    @Test
+    public void setCapacity_notPositive_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> commandTracker.setCapacity(0));
+        assertThrows(IllegalArgumentException.class, () -> commandTracker.setCapacity(-1));
+        assertEquals(CommandTracker.DEFAULT_CAPACITY, commandTracker.getCapacity());
+    }
+
+    @Test
+    public void push_beyondCapacity_dropsOldestCommands() {
+        commandTracker.setCapacity(2);
+        CommandStub first = new CommandStub();
+        CommandStub second = new CommandStub();
+        CommandStub third = new CommandStub();
+        commandTracker.push(first);
+        commandTracker.push(second);
+        commandTracker.push(third);
+
+        assertSame(third, commandTracker.popUndo());
+        assertSame(second, commandTracker.popUndo());
+        assertFalse(commandTracker.canUndo());
+        assertNull(commandTracker.popUndo());
+
+        // the undone commands can still be redone, most recently undone first
+        assertSame(second, commandTracker.popRedo());
+        assertSame(third, commandTracker.popRedo());
+        assertFalse(commandTracker.canRedo());
+    }
+
+    @Test
+    public void setCapacity_belowSize_dropsOldestCommands() {
+        CommandStub first = new CommandStub();
+        CommandStub second = new CommandStub();
+        CommandStub third = new CommandStub();
+        commandTracker.push(first);
+        commandTracker.push(second);
+        commandTracker.push(third);
+        commandTracker.popUndo();
+
+        commandTracker.setCapacity(1);
+        assertEquals(1, commandTracker.getCapacity());
+        assertSame(second, commandTracker.popUndo());
+        assertFalse(commandTracker.canUndo());
+        assertSame(second, commandTracker.popRedo());
+        assertFalse(commandTracker.canRedo());
+    }
+
+    @Test
+    public void push_afterUndo_keepsRedoUntilNextCommand() {
+        CommandStub first = new CommandStub();
+        CommandStub second = new CommandStub();
+        commandTracker.push(first);
+        commandTracker.popUndo();
+        commandTracker.push(second);
+        assertTrue(commandTracker.canRedo());
+
+        commandTracker.push(new CommandStub());
+        assertFalse(commandTracker.canRedo());
+    }
+
+    @Test
+    public void restoreFrom_savedInEarlierSession_undoesAndRedoesRestoredCommand() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json.undo");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new CommandHistory());
+        commandTracker.restoreFrom(new UndoHistoryStorage(filePath));
+        new AddCommand(AMY).execute(model);
+        commandTracker.save();
+
+        // a later session restores the command from the same file
+        commandTracker.clear();
+        commandTracker.detachStorage();
+        commandTracker.restoreFrom(new UndoHistoryStorage(filePath));
+        UndoableCommand restoredCommand = (UndoableCommand) commandTracker.popUndo();
+        assertTrue(restoredCommand instanceof RestoredCommand);
+        restoredCommand.undo(model);
+        assertFalse(model.hasPerson(AMY));
+        commandTracker.save();
+
+        commandTracker.restoreFrom(new UndoHistoryStorage(filePath));
+        assertFalse(commandTracker.canUndo());
+        ((UndoableCommand) commandTracker.popRedo()).redo(model);
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void startIn_savedInEarlierSession_discardsSavedCommands() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json.undo");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new CommandHistory());
+        commandTracker.restoreFrom(new UndoHistoryStorage(filePath));
+        new AddCommand(AMY).execute(model);
+        commandTracker.save();
+
+        commandTracker.detachStorage();
+        commandTracker.startIn(new UndoHistoryStorage(filePath));
+        assertFalse(commandTracker.canUndo());
+        commandTracker.save();
+
+        commandTracker.restoreFrom(new UndoHistoryStorage(filePath));
+        assertFalse(commandTracker.canUndo());
+        assertFalse(commandTracker.canRedo());
+    }
+
+    /**
+     * A stub class for a command that supports undo.
+     */
+    private static class CommandStub extends UndoableCommand {
+        @Override
+        public CommandResult execute(Model model) {
+            return new CommandResult("Mock command executed!");
+        }
+
+        @Override
+        public void undo(Model model) { }
+
+        @Override
+        public void redo(Model model) { }
+    }
+}
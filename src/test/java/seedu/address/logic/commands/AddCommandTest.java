@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyCommandHistory;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListSnapshot;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -147,6 +149,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonListSnapshot clearPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void restorePersons(PersonListSnapshot snapshot) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -172,6 +184,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
@@ -187,6 +214,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> filterOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showPersonsInOrder(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortFilteredPersonList(Comparator<Person> comparator) {
             throw new AssertionError("This method should not be called.");
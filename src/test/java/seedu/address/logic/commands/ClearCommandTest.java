@@ -1,10 +1,14 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.CommandHistory;
 import seedu.address.model.Model;
@@ -30,4 +34,32 @@ public class ClearCommandTest {
         assertCommandSuccess(new ClearCommand(), model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void undoAndRedo_nonEmptyAddressBook_personsRestoredAndClearedAgain() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new CommandHistory());
+        model.updateFilteredPersonList(person -> person.equals(ALICE));
+        ClearCommand clearCommand = new ClearCommand();
+        clearCommand.executeConfirmed(model);
+
+        clearCommand.undo(model);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+
+        clearCommand.redo(model);
+        assertEquals(new AddressBook(), model.getAddressBook());
+
+        clearCommand.undo(model);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void undo_personAddedAfterClear_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new CommandHistory());
+        ClearCommand clearCommand = new ClearCommand();
+        clearCommand.executeConfirmed(model);
+        model.addPerson(ALICE);
+
+        assertThrows(CommandException.class, ClearCommand.MESSAGE_NOT_CLEARED, () -> clearCommand.undo(model));
+    }
+
 }
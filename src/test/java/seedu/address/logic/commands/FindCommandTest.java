@@ -5,7 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.JOHN;
@@ -14,6 +17,8 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,7 +26,10 @@ import seedu.address.model.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.FuzzyNameQuery;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.SearchField;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -55,6 +63,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // fuzzy find with the same keywords -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(new FuzzyNameQuery(List.of("first")))));
     }
 
     @Test
@@ -155,11 +166,61 @@ public class FindCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(JOHN, JON), model.getFilteredPersonList());
     }
+    @Test
+    public void execute_multipleFields_personsMatchingAllFieldsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(Map.of(
+                SearchField.TAG, List.of("friends"), SearchField.NAME, List.of("meier")));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_emailDomain_allPersonsFound() {
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(Map.of(
+                SearchField.EMAIL, List.of("EXAMPLE")));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        assertCommandSuccess(new FindCommand(predicate), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_closestPersonsFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindCommand command = new FindCommand(new FuzzyNameQuery(Arrays.asList("meyer")));
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_keywordsAfterFuzzyKeywords_rankingDropped() {
+        new FindCommand(new FuzzyNameQuery(Arrays.asList("meyer"))).execute(model);
+        new FindCommand(PersonContainsKeywordsPredicate.forNames(Arrays.asList("Meier", "Meyer"))).execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_misspeltFuzzyKeywords_personFound() {
+        FindCommand command = new FindCommand(new FuzzyNameQuery(Arrays.asList("alise", "pauleen")));
+        command.execute(model);
+        assertEquals(ALICE, model.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void execute_dissimilarFuzzyKeywords_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FindCommand command = new FindCommand(new FuzzyNameQuery(Arrays.asList("xyz")));
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate="
+                + PersonContainsKeywordsPredicate.forNames(Arrays.asList("keyword")) + "}";
         assertEquals(expected, findCommand.toString());
     }
 
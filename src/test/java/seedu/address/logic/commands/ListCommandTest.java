@@ -1,5 +1,9 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
@@ -8,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -120,6 +125,16 @@ public class ListCommandTest {
                 model, ListCommand.MESSAGE_DESC_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_sortDescWithMissingBirthdays_noBirthdayLast() {
+        Person noBirthday = new PersonBuilder().withName("NoBday").build();
+        model.addPerson(noBirthday);
+
+        new ListCommand(ListCommand.SortOrder.DESCENDING).execute(model);
+        List<Person> persons = model.getFilteredPersonList();
+        assertEquals(noBirthday, persons.get(persons.size() - 1));
+    }
+
     @Test
     public void execute_sortDescWithBirthdayToday_success() {
         Person todayBday = new PersonBuilder().withName("TodayBday")
@@ -137,5 +152,53 @@ public class ListCommandTest {
                 model, ListCommand.MESSAGE_DESC_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_upcomingBirthdays_showsNextBirthdaysInOrder() {
+        Person later = addPersonWithBirthdayIn("Later", 5);
+        Person sooner = addPersonWithBirthdayIn("Sooner", 1);
+
+        List<Person> upcoming = model.getAddressBook().getUpcomingBirthdays(LocalDate.now(), 2);
+        assertEquals(List.of(sooner, later), upcoming.stream().filter(p -> p == sooner || p == later).toList());
+        expectedModel.showPersonsInOrder(upcoming);
+
+        assertCommandSuccess(ListCommand.ofUpcomingBirthdays(2), model,
+                String.format(ListCommand.MESSAGE_UPCOMING_SUCCESS, upcoming.size()), expectedModel);
+    }
+
+    @Test
+    public void execute_birthdaysWithin_showsOnlyBirthdaysInRange() {
+        Person later = addPersonWithBirthdayIn("Later", 5);
+        Person sooner = addPersonWithBirthdayIn("Sooner", 1);
+
+        List<Person> within = model.getAddressBook().getBirthdaysWithin(LocalDate.now(), 3);
+        assertTrue(within.contains(sooner));
+        assertFalse(within.contains(later));
+        expectedModel.showPersonsInOrder(within);
+
+        assertCommandSuccess(ListCommand.ofBirthdaysWithin(3), model,
+                String.format(ListCommand.MESSAGE_WITHIN_SUCCESS, within.size(), 3), expectedModel);
+        assertEquals(within, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(ListCommand.ofUpcomingBirthdays(3), ListCommand.ofUpcomingBirthdays(3));
+        assertNotEquals(ListCommand.ofUpcomingBirthdays(3), ListCommand.ofUpcomingBirthdays(4));
+        assertNotEquals(ListCommand.ofUpcomingBirthdays(3), ListCommand.ofBirthdaysWithin(3));
+        assertNotEquals(ListCommand.ofBirthdaysWithin(3), new ListCommand());
+    }
+
+    /**
+     * Adds a person, to both models, whose next birthday is {@code daysAway} days from today.
+     */
+    private Person addPersonWithBirthdayIn(String name, int daysAway) {
+        LocalDate birthday = LocalDate.now().plusDays(daysAway).minusYears(20);
+        Person person = new PersonBuilder().withName(name)
+                .withBirthday(birthday.format(DateTimeFormatter.ofPattern("dd-MM-yyyy")))
+                .build();
+        model.addPerson(person);
+        expectedModel.addPerson(person);
+        return person;
+    }
 
 }
@@ -3,16 +3,25 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.CommandTracker;
 import seedu.address.model.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.PersonChange;
 import seedu.address.model.UserPrefs;
+import seedu.address.storage.UndoHistoryStorage;
 
 /**
  * Contains unit tests for UndoCommand.
@@ -21,12 +30,21 @@ public class UndoCommandTest {
     private Model model;
     private CommandTracker commandTracker;
 
+    @TempDir
+    public Path testFolder;
+
     @BeforeEach
     public void setUp() {
         model = new ModelManager();
         commandTracker = CommandTracker.getInstance();
     }
 
+    @AfterEach
+    public void tearDown() {
+        commandTracker.detachStorage();
+        commandTracker.clear();
+    }
+
     @Test
     public void execute_validUndo_success() {
         Command mockCommand = new CommandStub();
@@ -39,6 +57,21 @@ public class UndoCommandTest {
         assertCommandSuccess(undoCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_restoredChangeNoLongerInAddressBook_failureAndHistoryDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json.undo");
+        UndoHistoryStorage storage = new UndoHistoryStorage(filePath);
+        storage.push(Optional.of(PersonChange.added(AMY)));
+        storage.push(Optional.of(PersonChange.added(AMY)));
+        storage.save();
+        commandTracker.restoreFrom(new UndoHistoryStorage(filePath));
+
+        // the model never had the person added
+        assertCommandFailure(new UndoCommand(), model, RestoredCommand.MESSAGE_MISMATCHED_CHANGE);
+        assertFalse(commandTracker.canUndo());
+        assertFalse(commandTracker.canRedo());
+    }
+
     @Test
     public void equals() {
         UndoCommand undoCommand1 = new UndoCommand();
@@ -136,6 +136,32 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters_longestPrefixRecognized() {
+        Prefix nSlash = new Prefix("n/");
+        Prefix nnSlash = new Prefix("nn/");
+        Prefix noSlash = new Prefix("no/");
+        String argsString = " n/John nn/Johnny no/Likes tea n/ nnn/x";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, nSlash, nnSlash, noSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, nSlash, "John", "nnn/x");
+        assertArgumentPresent(argMultimap, nnSlash, "Johnny");
+        assertArgumentPresent(argMultimap, noSlash, "Likes tea");
+
+        // a prefix that is not given is not recognized even if a given prefix starts with it
+        argMultimap = ArgumentTokenizer.tokenize(argsString, nnSlash);
+        assertPreamblePresent(argMultimap, "n/John");
+        assertArgumentPresent(argMultimap, nnSlash, "Johnny no/Likes tea n/ nnn/x");
+    }
+
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognized() {
+        String argsString = "preamble\tp/tab\np/newline p/ value\t\n";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "preamble\tp/tab\np/newline");
+        assertArgumentPresent(argMultimap, pSlash, "value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -2,14 +2,28 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NICKNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.FuzzyNameQuery;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.SearchField;
 
 public class FindCommandParserTest {
 
@@ -29,6 +43,46 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // name prefix is the same as no prefix
+        assertParseSuccess(parser, " Alice " + PREFIX_NAME + "Bob", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fieldPrefixes_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonContainsKeywordsPredicate(Map.of(
+                SearchField.PHONE, List.of("9123"),
+                SearchField.EMAIL, List.of("example.com"),
+                SearchField.ADDRESS, List.of("clementi", "ave"),
+                SearchField.NICKNAME, List.of("ally"),
+                SearchField.NOTES, List.of("peanuts"),
+                SearchField.TAG, List.of("friends", "colleagues"),
+                SearchField.RELATIONSHIP, List.of("cousin"))));
+        assertParseSuccess(parser, " " + PREFIX_PHONE + "9123 " + PREFIX_EMAIL + "example.com "
+                + PREFIX_ADDRESS + "clementi  ave " + PREFIX_NICKNAME + "ally " + PREFIX_NOTES + "peanuts "
+                + PREFIX_TAG + "friends " + PREFIX_RELATIONSHIP + "cousin " + PREFIX_TAG + "colleagues",
+                expectedFindCommand);
+    }
+
+    @Test
+    public void parse_emptyPrefixValue_throwsParseException() {
+        assertParseFailure(parser, " Alice " + PREFIX_TAG, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyPrefix_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new FuzzyNameQuery(Arrays.asList("alise", "tann")));
+        assertParseSuccess(parser, " " + PREFIX_FUZZY + "alise tann", expectedFindCommand);
+        assertParseSuccess(parser, " " + PREFIX_FUZZY + " \n Alise \n \t tann  \t", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fuzzyPrefixWithOtherArguments_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " " + PREFIX_FUZZY, expectedMessage);
+        assertParseFailure(parser, " Alice " + PREFIX_FUZZY + "alise", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_FUZZY + "alise " + PREFIX_TAG + "friends", expectedMessage);
     }
 
 }
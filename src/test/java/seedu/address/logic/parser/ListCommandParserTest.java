@@ -1,7 +1,9 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UPCOMING;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -57,4 +59,28 @@ public class ListCommandParserTest {
         assertThrows(ParseException.class, () -> parser.parse(PREFIX_SORT.toString()));
     }
 
+    @Test
+    public void parse_validUpcoming_returnsListCommandOfUpcomingBirthdays() throws Exception {
+        assertEquals(ListCommand.ofUpcomingBirthdays(5), parser.parse(PREFIX_UPCOMING + "5"));
+    }
+
+    @Test
+    public void parse_validDays_returnsListCommandOfBirthdaysWithin() throws Exception {
+        assertEquals(ListCommand.ofBirthdaysWithin(30), parser.parse(PREFIX_DAYS + " 30 "));
+    }
+
+    @Test
+    public void parse_invalidNumber_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(PREFIX_UPCOMING + "0"));
+        assertThrows(ParseException.class, () -> parser.parse(PREFIX_UPCOMING + "-1"));
+        assertThrows(ParseException.class, () -> parser.parse(PREFIX_DAYS + "x"));
+        assertThrows(ParseException.class, () -> parser.parse(PREFIX_DAYS.toString()));
+    }
+
+    @Test
+    public void parse_moreThanOneOption_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(PREFIX_SORT + "asc " + PREFIX_UPCOMING + "3"));
+        assertThrows(ParseException.class, () -> parser.parse(PREFIX_UPCOMING + "3 " + PREFIX_DAYS + "7"));
+    }
+
 }
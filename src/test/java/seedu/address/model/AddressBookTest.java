@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -83,6 +85,32 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getVersion_modifications_versionChanges() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getVersion() != version);
+    }
+
+    @Test
+    public void findPersons_indexedAndUnindexed_sameResult() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook stub = new AddressBookStub(typicalAddressBook.getPersonList());
+        PersonContainsKeywordsPredicate predicate = PersonContainsKeywordsPredicate.forNames(
+                Arrays.asList("Meier", "ku"));
+        assertEquals(new HashSet<>(stub.findPersons(predicate)),
+                new HashSet<>(typicalAddressBook.findPersons(predicate)));
+        assertEquals(4, typicalAddressBook.findPersons(predicate).size());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -26,6 +26,19 @@ public class CommandHistoryTest {
         commandHistory = new CommandHistory();
     }
 
+    @Test
+    public void getVersion_addCommandAndNavigate_changesOnlyOnAdd() {
+        CommandHistory history = new CommandHistory();
+        long version = history.getVersion();
+        history.addCommand("list");
+        assertTrue(history.getVersion() != version);
+
+        version = history.getVersion();
+        history.getPreviousCommand();
+        history.resetNavigation();
+        assertEquals(version, history.getVersion());
+    }
+
     @Test
     public void constructor() {
         assertEquals(Collections.emptyList(), commandHistory.getCommandHistory());
@@ -94,17 +107,58 @@ public class CommandHistoryTest {
     }
 
     @Test
-    public void getCommandHistory_modifyReturnedList_originalUnmodified() {
+    public void getCommandHistory_modifyReturnedList_throwsUnsupportedOperationException() {
         commandHistory.addCommand(VALID_COMMAND_1);
         commandHistory.addCommand(VALID_COMMAND_2);
 
         List<String> returnedHistory = commandHistory.getCommandHistory();
-        returnedHistory.add(VALID_COMMAND_3);
+        assertThrows(UnsupportedOperationException.class, () -> returnedHistory.add(VALID_COMMAND_3));
 
         List<String> expectedHistory = Arrays.asList(VALID_COMMAND_1, VALID_COMMAND_2);
         assertEquals(expectedHistory, commandHistory.getCommandHistory());
     }
 
+    @Test
+    public void addCommand_historyFull_oldestCommandDropped() {
+        List<String> expectedCommands = new ArrayList<>();
+        for (int i = 0; i < CommandHistory.MAX_HISTORY_SIZE + 5; i++) {
+            commandHistory.addCommand("command " + i);
+            expectedCommands.add("command " + i);
+        }
+        List<String> expectedHistory = expectedCommands.subList(5, expectedCommands.size());
+        assertEquals(expectedHistory, commandHistory.getCommandHistory());
+        assertEquals(expectedHistory, new CommandHistory(commandHistory).getCommandHistory());
+        assertEquals("command " + (CommandHistory.MAX_HISTORY_SIZE + 4), commandHistory.getPreviousCommand());
+    }
+
+    @Test
+    public void setCommands_viewOfSameHistory_success() {
+        commandHistory.addCommand(VALID_COMMAND_1);
+        commandHistory.addCommand(VALID_COMMAND_2);
+        commandHistory.setCommands(commandHistory.getCommandHistory().subList(1, 2));
+        assertEquals(Arrays.asList(VALID_COMMAND_2), commandHistory.getCommandHistory());
+    }
+
+    @Test
+    public void getCommandsAddedSince() {
+        commandHistory.addCommand(VALID_COMMAND_1);
+        CommandHistory earlier = new CommandHistory(commandHistory);
+        commandHistory.addCommand(VALID_COMMAND_2);
+        commandHistory.addCommand(VALID_COMMAND_3);
+
+        // only commands added since earlier -> returns those commands
+        assertEquals(Arrays.asList(VALID_COMMAND_2, VALID_COMMAND_3),
+                commandHistory.getCommandsAddedSince(earlier).get());
+        assertEquals(Collections.emptyList(), commandHistory.getCommandsAddedSince(commandHistory).get());
+
+        // unrelated history -> empty
+        assertFalse(commandHistory.getCommandsAddedSince(new CommandHistory()).isPresent());
+
+        // history replaced since earlier -> empty
+        commandHistory.setCommands(Arrays.asList(VALID_COMMAND_1));
+        assertFalse(commandHistory.getCommandsAddedSince(earlier).isPresent());
+    }
+
     @Test
     public void navigationMethods_emptyHistory_returnsExpectedResults() {
         assertFalse(commandHistory.canNavigateBackward());
@@ -7,6 +7,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -14,9 +15,13 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonKeyComparator;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +98,68 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void sortFilteredPersonList_personKeyComparator_onlyEditedPersonKeyRecomputed() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        int[] extractions = new int[1];
+        modelManager.sortFilteredPersonList(PersonKeyComparator.comparingString(person -> {
+            extractions[0]++;
+            return person.getName().fullName;
+        }));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(2, extractions[0]);
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Abe Meier").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedBenson, ALICE), modelManager.getFilteredPersonList());
+        assertEquals(3, extractions[0]);
+    }
+
+    @Test
+    public void updateFilteredPersonList_afterFilterOrder_sortOrderRestored() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.sortFilteredPersonList(PersonKeyComparator.comparingString(person -> person.getName().fullName)
+                .reversed());
+        modelManager.updateFilteredPersonList(person -> person != CARL,
+                PersonKeyComparator.comparingString(person -> person.getName().fullName));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(CARL, BENSON, ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void commitChanges_addsAndDeletes_singleChange() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(person -> false);
+        int[] changeCount = {0};
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.beginChanges();
+        modelManager.addPerson(BENSON);
+        modelManager.beginChanges();
+        modelManager.addPerson(CARL);
+        modelManager.deletePerson(ALICE);
+        modelManager.commitChanges();
+        // nested batch committed with the outer one
+        assertEquals(0, changeCount[0]);
+        assertTrue(modelManager.hasPerson(CARL));
+        assertFalse(modelManager.hasPerson(ALICE));
+        modelManager.commitChanges();
+
+        assertEquals(Arrays.asList(BENSON, CARL), modelManager.getFilteredPersonList());
+        // the list changes once, and the filter is reset once to show the added persons
+        assertEquals(2, changeCount[0]);
+    }
+
+    @Test
+    public void commitChanges_noBatchBegun_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitChanges());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,114 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDelta;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonChangeTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new CommandHistory());
+
+    @Test
+    public void deleted_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonChange.deleted(null));
+        assertThrows(NullPointerException.class, () -> PersonChange.deleted(Arrays.asList(ALICE, null)));
+    }
+
+    @Test
+    public void undoRedo_added_personRemovedAndAddedBack() {
+        PersonChange change = PersonChange.added(AMY);
+        model.addPerson(AMY);
+
+        change.undo(model);
+        assertFalse(model.hasPerson(AMY));
+        change.redo(model);
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void undoRedo_edited_originalAndEditedPersonRestored() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        PersonChange change = PersonChange.edited(PersonDelta.between(ALICE, editedAlice));
+        model.setPerson(ALICE, editedAlice);
+
+        change.undo(model);
+        assertEquals(ALICE, model.getAddressBook().getPersonList().get(0));
+        change.redo(model);
+        assertEquals(editedAlice, model.getAddressBook().getPersonList().get(0));
+    }
+
+    @Test
+    public void undoRedo_deleted_personsAddedBackAndDeletedAgain() {
+        PersonChange change = PersonChange.deleted(List.of(BENSON, CARL));
+        model.deletePersons(List.of(BENSON, CARL));
+
+        change.undo(model);
+        assertTrue(model.hasPerson(BENSON));
+        assertTrue(model.hasPerson(CARL));
+        change.redo(model);
+        assertFalse(model.hasPerson(BENSON));
+        assertFalse(model.hasPerson(CARL));
+    }
+
+    @Test
+    public void undo_deletedPersonReplacedByUnequalPerson_throwsDuplicatePersonException() {
+        PersonChange change = PersonChange.deleted(List.of(BENSON, CARL));
+        model.deletePersons(List.of(BENSON, CARL));
+        Person editedCarl = new PersonBuilder(CARL).withPhone(VALID_PHONE_BOB).build();
+        model.addPerson(editedCarl);
+
+        assertThrows(DuplicatePersonException.class, () -> change.undo(model));
+        // the deletion is not partly reverted
+        assertFalse(model.hasPerson(BENSON));
+        assertEquals(editedCarl, model.getAddressBook().getPersonList()
+                .get(model.getAddressBook().getPersonList().size() - 1));
+    }
+
+    @Test
+    public void equals() {
+        PersonChange change = PersonChange.deleted(List.of(BENSON, CARL));
+
+        // same values -> returns true
+        assertTrue(change.equals(PersonChange.deleted(List.of(BENSON, CARL))));
+
+        // same object -> returns true
+        assertTrue(change.equals(change));
+
+        // null -> returns false
+        assertFalse(change.equals(null));
+
+        // different type -> returns false
+        assertFalse(change.equals(5));
+
+        // different kind -> returns false
+        assertFalse(PersonChange.added(BENSON).equals(PersonChange.deleted(List.of(BENSON))));
+
+        // different persons -> returns false
+        assertFalse(change.equals(PersonChange.deleted(List.of(CARL, BENSON))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonChange change = PersonChange.added(AMY);
+        String expected = PersonChange.class.getCanonicalName() + "{kind=" + PersonChange.Kind.ADD
+                + ", persons=" + List.of(AMY) + ", edit=null}";
+        assertEquals(expected, change.toString());
+    }
+}
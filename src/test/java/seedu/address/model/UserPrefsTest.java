@@ -1,9 +1,15 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.StorageFormat;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +24,26 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookStorageFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookStorageFormat(null));
+    }
+
+    @Test
+    public void setAddressBookLastSavedFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookLastSavedFormat(null));
+    }
+
+    @Test
+    public void getAddressBookLastSavedFormat_notRecorded_empty() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(Optional.empty(), userPrefs.getAddressBookLastSavedFormat());
+
+        userPrefs.setAddressBookLastSavedFormat(StorageFormat.BINARY);
+        assertEquals(Optional.of(StorageFormat.BINARY), new UserPrefs(userPrefs).getAddressBookLastSavedFormat());
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
 }
@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class BirthdayCalendarTest {
+
+    @Test
+    public void getDayOfYear() {
+        assertEquals(0, BirthdayCalendar.getDayOfYear(new Birthday("01-01-1990")));
+        assertEquals(59, BirthdayCalendar.getDayOfYear(new Birthday("29-02-2000")));
+        // 1 March of a year without 29 February is still the day after it
+        assertEquals(60, BirthdayCalendar.getDayOfYear(new Birthday("01-03-1999")));
+        assertEquals(365, BirthdayCalendar.getDayOfYear(new Birthday("31-12-1999")));
+    }
+
+    @Test
+    public void getDaysUntil_sameAsDateArithmetic() {
+        for (LocalDate today : new LocalDate[] {LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 28),
+            LocalDate.of(2025, 3, 1), LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1),
+            LocalDate.of(2027, 6, 15), LocalDate.of(2024, 12, 31)}) {
+            BirthdayCalendar calendar = new BirthdayCalendar(today);
+            for (int day = 0; day < BirthdayCalendar.DAYS_IN_CALENDAR; day++) {
+                MonthDay monthDay = MonthDay.from(LocalDate.ofYearDay(2000, day + 1));
+                LocalDate nextBirthday = monthDay.atYear(today.getYear());
+                if (monthDay.isBefore(MonthDay.from(today))) {
+                    nextBirthday = nextBirthday.plusYears(1);
+                }
+                assertEquals((int) ChronoUnit.DAYS.between(today, nextBirthday), calendar.getDaysUntil(day),
+                        today + " " + monthDay);
+            }
+        }
+    }
+
+    @Test
+    public void getDayInOrder_soonestFirst() {
+        BirthdayCalendar calendar = new BirthdayCalendar(LocalDate.of(2025, 12, 31));
+        assertEquals(365, calendar.getDayInOrder(0));
+        assertEquals(0, calendar.getDayInOrder(1));
+        // 28 and 29 February are equally near in a year without 29 February, and stay in calendar order
+        assertEquals(58, calendar.getDayInOrder(59));
+        assertEquals(59, calendar.getDayInOrder(60));
+        assertEquals(calendar.getDaysUntil(58), calendar.getDaysUntil(59));
+        for (int i = 1; i < BirthdayCalendar.DAYS_IN_CALENDAR; i++) {
+            assertTrue(calendar.getDaysUntil(calendar.getDayInOrder(i - 1))
+                    <= calendar.getDaysUntil(calendar.getDayInOrder(i)));
+        }
+    }
+
+    @Test
+    public void getDaysUntil_birthday() {
+        BirthdayCalendar calendar = new BirthdayCalendar(LocalDate.of(2025, 3, 10));
+        assertEquals(0, calendar.getDaysUntil(new Birthday("10-03-1990")));
+        assertEquals(5, calendar.getDaysUntil(new Birthday("15-03-1990")));
+        assertEquals(364, calendar.getDaysUntil(new Birthday("09-03-1990")));
+    }
+}
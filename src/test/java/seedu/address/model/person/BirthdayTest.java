@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+public class BirthdayTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Birthday(null));
+    }
+
+    @Test
+    public void constructor_validBirthday_parsedOnce() {
+        Birthday birthday = new Birthday(" 29-02-2000 ");
+        assertEquals("29-02-2000", birthday.value);
+        assertEquals(LocalDate.of(2000, 2, 29), birthday.getLocalDate());
+    }
+
+    @Test
+    public void constructor_invalidBirthday_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, Birthday.MESSAGE_BIRTHDAY_CONSTRAINTS_FORMAT, () ->
+                new Birthday("1-1-2000"));
+        assertThrows(IllegalArgumentException.class, Birthday.MESSAGE_BIRTHDAY_CONSTRAINTS_INVALID, () ->
+                new Birthday("29-02-2001"));
+    }
+
+    @Test
+    public void isValidBirthday() {
+        // null birthday
+        assertThrows(NullPointerException.class, () -> Birthday.isValidBirthday(null));
+
+        // not in the format
+        String formatMessage = Birthday.MESSAGE_BIRTHDAY_CONSTRAINTS_FORMAT;
+        assertThrows(IllegalArgumentException.class, formatMessage, () -> Birthday.isValidBirthday("")); // empty
+        assertThrows(IllegalArgumentException.class, formatMessage, () ->
+                Birthday.isValidBirthday("01/01/2000")); // wrong separators
+        assertThrows(IllegalArgumentException.class, formatMessage, () ->
+                Birthday.isValidBirthday("01-01-200")); // too short
+        assertThrows(IllegalArgumentException.class, formatMessage, () ->
+                Birthday.isValidBirthday("01-01-20000")); // too long
+        assertThrows(IllegalArgumentException.class, formatMessage, () ->
+                Birthday.isValidBirthday("0a-01-2000")); // not a digit
+        assertThrows(IllegalArgumentException.class, formatMessage, () ->
+                Birthday.isValidBirthday("+1-01-2000")); // sign
+        assertThrows(IllegalArgumentException.class, formatMessage, () ->
+                Birthday.isValidBirthday("\uFF10\uFF11-01-2000")); // non-ASCII digits
+
+        // not a real date
+        String invalidMessage = Birthday.MESSAGE_BIRTHDAY_CONSTRAINTS_INVALID;
+        assertThrows(IllegalArgumentException.class, invalidMessage, () -> Birthday.isValidBirthday("00-01-2000"));
+        assertThrows(IllegalArgumentException.class, invalidMessage, () -> Birthday.isValidBirthday("31-04-2000"));
+        assertThrows(IllegalArgumentException.class, invalidMessage, () -> Birthday.isValidBirthday("01-13-2000"));
+
+        // in the future
+        String tomorrow = LocalDate.now().plusDays(1).format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+        assertThrows(IllegalArgumentException.class, Birthday.MESSAGE_BIRTHDAY_CONSTRAINTS_FUTURE, () ->
+                Birthday.isValidBirthday(tomorrow));
+
+        // valid birthdays
+        assertTrue(Birthday.isValidBirthday("01-01-0000"));
+        assertTrue(Birthday.isValidBirthday("29-02-2000")); // leap day
+        assertTrue(Birthday.isValidBirthday(
+                LocalDate.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy")))); // today
+    }
+
+    @Test
+    public void fromTrusted_futureBirthday_notChecked() {
+        String tomorrow = LocalDate.now().plusDays(1).format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+        assertEquals(LocalDate.now().plusDays(1), Birthday.fromTrusted(tomorrow).getLocalDate());
+    }
+
+    @Test
+    public void fromEpochDay_returnsBirthdayWithSameValue() {
+        for (String value : new String[] {"01-01-0000", "29-02-2000", "31-12-1969", "01-01-1970", "09-10-2023"}) {
+            Birthday birthday = new Birthday(value);
+            Birthday copy = Birthday.fromEpochDay(birthday.toEpochDay());
+            assertEquals(value, copy.value);
+            assertEquals(birthday, copy);
+        }
+    }
+
+    @Test
+    public void ofEpochDay_validatedLikeConstructor() {
+        Birthday birthday = new Birthday("29-02-2000");
+        assertEquals(birthday, Birthday.ofEpochDay(birthday.toEpochDay()));
+
+        int tomorrow = (int) LocalDate.now().plusDays(1).toEpochDay();
+        assertThrows(IllegalArgumentException.class, () -> Birthday.ofEpochDay(tomorrow));
+        assertThrows(IllegalArgumentException.class, () -> Birthday.ofEpochDay(Integer.MIN_VALUE + 1));
+    }
+
+    @Test
+    public void equals() {
+        Birthday birthday = new Birthday("01-01-2000");
+
+        // same values -> returns true
+        assertTrue(birthday.equals(new Birthday("01-01-2000")));
+        assertTrue(birthday.equals(Birthday.fromTrusted("01-01-2000")));
+
+        // same object -> returns true
+        assertTrue(birthday.equals(birthday));
+
+        // null -> returns false
+        assertFalse(birthday.equals(null));
+
+        // different types -> returns false
+        assertFalse(birthday.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(birthday.equals(new Birthday("02-01-2000")));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyNameQueryTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice Tan").build();
+    private static final Person ALISON = new PersonBuilder().withName("Alison Tann").build();
+    private static final Person BOB = new PersonBuilder().withName("Robert Lim").withNickname("Bobby").build();
+
+    @Test
+    public void getTrigrams() {
+        assertEquals(Set.of("  a", " al", "ali", "lic", "ice", "ce "), FuzzyNameQuery.getTrigrams("alice"));
+        assertEquals(Set.of("  j", " jo", "jo "), FuzzyNameQuery.getTrigrams("jo"));
+    }
+
+    @Test
+    public void getSimilarity() {
+        // exact word
+        assertEquals(1.0, new FuzzyNameQuery(List.of("ALICE")).getSimilarity(ALICE));
+
+        // misspelt word, scored against the most similar word
+        double similarity = new FuzzyNameQuery(List.of("alise")).getSimilarity(ALICE);
+        assertTrue(similarity >= FuzzyNameQuery.MIN_SIMILARITY && similarity < 1.0);
+
+        // nickname
+        assertEquals(1.0, new FuzzyNameQuery(List.of("bobby")).getSimilarity(BOB));
+
+        // average over the keywords
+        assertEquals(0.5, new FuzzyNameQuery(List.of("tan", "xyz")).getSimilarity(ALICE));
+
+        // no shared trigram
+        assertEquals(0.0, new FuzzyNameQuery(List.of("xyz")).getSimilarity(ALICE));
+    }
+
+    @Test
+    public void getTopMatches_rankedByMostSimilar() {
+        List<Person> persons = List.of(BOB, ALISON, ALICE);
+        assertEquals(List.of(ALICE, ALISON), new FuzzyNameQuery(List.of("alice", "tan")).getTopMatches(persons));
+        assertEquals(List.of(ALISON, ALICE), new FuzzyNameQuery(List.of("alisn", "tann")).getTopMatches(persons));
+
+        // limited to the most similar
+        assertEquals(List.of(ALICE), new FuzzyNameQuery(List.of("alice", "tan"), 1).getTopMatches(persons));
+
+        // dissimilar persons are excluded
+        assertEquals(List.of(), new FuzzyNameQuery(List.of("charlotte")).getTopMatches(persons));
+    }
+
+    @Test
+    public void getTopMatches_equallySimilar_orderedByName() {
+        Person aliceLee = new PersonBuilder().withName("Alice Lee").build();
+        assertEquals(List.of(aliceLee, ALICE),
+                new FuzzyNameQuery(List.of("alice")).getTopMatches(List.of(ALICE, aliceLee)));
+    }
+
+    @Test
+    public void getTopMatches_typicalPersons_misspeltNameFound() {
+        List<Person> matches = new FuzzyNameQuery(List.of("bensen", "meyer")).getTopMatches(getTypicalPersons());
+        assertEquals("Benson Meier", matches.get(0).getName().fullName);
+    }
+
+    @Test
+    public void equals() {
+        FuzzyNameQuery query = new FuzzyNameQuery(List.of("alice"));
+
+        // same values, ignoring case -> returns true
+        assertTrue(query.equals(new FuzzyNameQuery(List.of("Alice"), FuzzyNameQuery.DEFAULT_LIMIT)));
+
+        // different types -> returns false
+        assertFalse(query.equals(1));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(query.equals(new FuzzyNameQuery(List.of("bob"))));
+
+        // different limit -> returns false
+        assertFalse(query.equals(new FuzzyNameQuery(List.of("alice"), 3)));
+    }
+}
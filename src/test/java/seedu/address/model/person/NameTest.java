@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -39,6 +40,13 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void fromTrusted_invalidName_notValidated() {
+        assertThrows(NullPointerException.class, () -> Name.fromTrusted(null));
+        assertEquals("peter*", Name.fromTrusted("peter*").fullName);
+        assertEquals(new Name("peter jack"), Name.fromTrusted("peter jack"));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
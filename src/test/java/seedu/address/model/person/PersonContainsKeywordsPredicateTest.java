@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonContainsKeywordsPredicateTest {
+
+    private static final Person PERSON = new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+            .withEmail("alice.p@mail.example.com").withAddress("123, Jurong West Ave 6, #08-111")
+            .withNickname("Ally").withNotes("Likes hiking, photography").withRelationship("Old Classmate")
+            .withTags("friends", "owesMoney").build();
+
+    @Test
+    public void equals() {
+        PersonContainsKeywordsPredicate firstPredicate = new PersonContainsKeywordsPredicate(
+                Map.of(SearchField.NAME, List.of("first")));
+        PersonContainsKeywordsPredicate secondPredicate = new PersonContainsKeywordsPredicate(
+                Map.of(SearchField.NAME, List.of("first"), SearchField.TAG, List.of("second")));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(PersonContainsKeywordsPredicate.forNames(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_eachFieldMatchesKeywordPrefix_returnsTrue() {
+        assertTrue(matches(SearchField.NAME, "pAUL"));
+        assertTrue(matches(SearchField.PHONE, "9435"));
+        assertTrue(matches(SearchField.EMAIL, "alice.p"));
+        assertTrue(matches(SearchField.EMAIL, "mail.example"));
+        assertTrue(matches(SearchField.ADDRESS, "jurong"));
+        assertTrue(matches(SearchField.ADDRESS, "08"));
+        assertTrue(matches(SearchField.NICKNAME, "all"));
+        assertTrue(matches(SearchField.NOTES, "photo"));
+        assertTrue(matches(SearchField.TAG, "OWES"));
+        assertTrue(matches(SearchField.RELATIONSHIP, "class"));
+    }
+
+    @Test
+    public void test_noWordStartsWithKeyword_returnsFalse() {
+        // keywords must match the start of a word
+        assertFalse(matches(SearchField.PHONE, "1253"));
+        assertFalse(matches(SearchField.EMAIL, "example.com"));
+        assertFalse(matches(SearchField.ADDRESS, "urong"));
+
+        // keywords only match their own field
+        assertFalse(matches(SearchField.TAG, "alice"));
+
+        // absent optional field
+        assertFalse(new PersonContainsKeywordsPredicate(Map.of(SearchField.NOTES, List.of("a")))
+                .test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void test_multipleFields_allFieldsMustMatch() {
+        assertTrue(new PersonContainsKeywordsPredicate(Map.of(SearchField.NAME, List.of("bob", "alice"),
+                SearchField.TAG, List.of("friends"))).test(PERSON));
+        assertFalse(new PersonContainsKeywordsPredicate(Map.of(SearchField.NAME, List.of("alice"),
+                SearchField.TAG, List.of("colleagues"))).test(PERSON));
+    }
+
+    @Test
+    public void test_noFieldSearched_returnsFalse() {
+        assertFalse(new PersonContainsKeywordsPredicate(Map.of()).test(PERSON));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonContainsKeywordsPredicate predicate = PersonContainsKeywordsPredicate.forNames(List.of("keyword"));
+        String expected = PersonContainsKeywordsPredicate.class.getCanonicalName() + "{keywords={NAME=[keyword]}}";
+        assertEquals(expected, predicate.toString());
+    }
+
+    private static boolean matches(SearchField field, String keyword) {
+        return new PersonContainsKeywordsPredicate(Map.of(field, List.of(keyword))).test(PERSON);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonDeltaTest {
+
+    @Test
+    public void between_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonDelta.between(null, ALICE));
+        assertThrows(NullPointerException.class, () -> PersonDelta.between(ALICE, null));
+    }
+
+    @Test
+    public void between_someFieldsChanged_keepsOnlyChangedFields() {
+        Person edited = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        PersonDelta delta = PersonDelta.between(ALICE, edited);
+
+        assertEquals(2, delta.getChangedFieldCount());
+        assertSame(edited, delta.getEdited());
+        assertEquals(ALICE, delta.getOriginal());
+    }
+
+    @Test
+    public void getOriginal_optionalFieldsAddedAndRemoved_restoresOriginal() {
+        Person original = new PersonBuilder(ALICE).withBirthday("01-01-1990").withNickname("Al").build();
+        Person edited = new PersonBuilder(ALICE).withRelationship("Cousin").withNotes("Met at work").withTags().build();
+        PersonDelta delta = PersonDelta.between(original, edited);
+
+        assertEquals(original, delta.getOriginal());
+        assertEquals(edited, PersonDelta.between(edited, original).getOriginal());
+    }
+
+    @Test
+    public void between_nothingChanged_noChangedFields() {
+        PersonDelta delta = PersonDelta.between(ALICE, new PersonBuilder(ALICE).build());
+        assertEquals(0, delta.getChangedFieldCount());
+        assertEquals(ALICE, delta.getOriginal());
+    }
+
+    @Test
+    public void equals() {
+        Person edited = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        PersonDelta delta = PersonDelta.between(ALICE, edited);
+
+        // same values -> returns true
+        PersonDelta deltaCopy = PersonDelta.between(new PersonBuilder(ALICE).build(), edited);
+        assertTrue(delta.equals(deltaCopy));
+        assertEquals(delta.hashCode(), deltaCopy.hashCode());
+
+        // same object -> returns true
+        assertTrue(delta.equals(delta));
+
+        // null -> returns false
+        assertFalse(delta.equals(null));
+
+        // different type -> returns false
+        assertFalse(delta.equals(5));
+
+        // different original -> returns false
+        assertFalse(delta.equals(PersonDelta.between(BOB, edited)));
+
+        // different edited person -> returns false
+        assertFalse(delta.equals(PersonDelta.between(ALICE, BOB)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Person edited = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        String expected = PersonDelta.class.getCanonicalName() + "{original=" + ALICE + ", edited=" + edited + "}";
+        assertEquals(expected, PersonDelta.between(ALICE, edited).toString());
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.JOHN;
+import static seedu.address.testutil.TypicalPersons.JON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonKeyComparatorTest {
+
+    @Test
+    public void byUpcomingBirthday_noBirthdayLastInEitherOrder() {
+        List<Person> persons = getTypicalPersons();
+        persons.sort(PersonKeyComparator.byUpcomingBirthday(LocalDate.of(2025, 4, 4)));
+        assertEquals(List.of(DANIEL, ELLE, GEORGE, JOHN, BENSON, CARL, ALICE, FIONA, JON), persons);
+
+        persons.sort(PersonKeyComparator.byUpcomingBirthday(LocalDate.of(2025, 4, 4)).reversed());
+        assertEquals(List.of(CARL, BENSON, JOHN, GEORGE, ELLE, DANIEL, ALICE, FIONA, JON), persons);
+    }
+
+    @Test
+    public void byName_ignoresCase() {
+        Person lowerCase = new PersonBuilder().withName("bob").build();
+        List<Person> persons = new ArrayList<>(List.of(CARL, lowerCase, ALICE));
+        persons.sort(PersonKeyComparator.byName());
+        assertEquals(List.of(ALICE, lowerCase, CARL), persons);
+
+        persons.sort(PersonKeyComparator.byName().reversed());
+        assertEquals(List.of(CARL, lowerCase, ALICE), persons);
+    }
+
+    @Test
+    public void byRelationship_noRelationshipLastInEitherOrder() {
+        Person cousin = new PersonBuilder().withName("Cousin").withRelationship("cousin").build();
+        List<Person> persons = new ArrayList<>(List.of(ALICE, BENSON, cousin));
+        persons.sort(PersonKeyComparator.byRelationship());
+        assertEquals(List.of(cousin, BENSON, ALICE), persons);
+
+        persons.sort(PersonKeyComparator.byRelationship().reversed());
+        assertEquals(List.of(BENSON, cousin, ALICE), persons);
+    }
+
+    @Test
+    public void comparingString_nullKeyLastInEitherOrder() {
+        PersonKeyComparator comparator = PersonKeyComparator.comparingString(person -> person == ALICE
+                ? null
+                : person.getName().fullName);
+        List<Person> persons = new ArrayList<>(List.of(ALICE, CARL, BENSON));
+        persons.sort(comparator);
+        assertEquals(List.of(BENSON, CARL, ALICE), persons);
+
+        persons.sort(comparator.reversed());
+        assertEquals(List.of(CARL, BENSON, ALICE), persons);
+    }
+
+    @Test
+    public void compare_keyExtractedOncePerPerson() {
+        int[] extractions = new int[1];
+        PersonKeyComparator comparator = PersonKeyComparator.comparingString(person -> {
+            extractions[0]++;
+            return person.getName().fullName;
+        });
+        List<Person> persons = getTypicalPersons();
+        for (int i = 0; i < 5; i++) {
+            persons.sort(comparator);
+            persons.sort(comparator.reversed());
+        }
+        assertEquals(persons.size(), extractions[0]);
+
+        // an edited person is a new instance, whose key is the only one extracted
+        persons.set(0, new PersonBuilder(persons.get(0)).withName("Zed").build());
+        persons.sort(comparator);
+        assertEquals(persons.size() + 1, extractions[0]);
+    }
+
+    @Test
+    public void evict_manyPersons_onlyEvictedKeysRecomputed() {
+        int[] extractions = new int[1];
+        PersonKeyComparator comparator = PersonKeyComparator.comparingLong(person -> {
+            extractions[0]++;
+            return Long.parseLong(person.getPhone().value);
+        });
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(99999 - i)).build());
+        }
+        comparator.precompute(persons);
+        assertEquals(1000, comparator.getCachedKeyCount());
+
+        for (int i = 0; i < persons.size(); i += 2) {
+            comparator.evict(persons.get(i));
+        }
+        // evicting a person without a cached key does nothing
+        comparator.evict(ALICE);
+        assertEquals(500, comparator.getCachedKeyCount());
+
+        persons.sort(comparator);
+        assertEquals(1500, extractions[0]);
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals("Person " + (999 - i), persons.get(i).getName().fullName);
+        }
+    }
+}
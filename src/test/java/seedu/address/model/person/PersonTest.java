@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,8 +13,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -24,6 +30,97 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void constructor_equalTagsAndRelationship_canonicalInstancesShared() {
+        Person first = new PersonBuilder().withRelationship("Cousin").withTags("family").build();
+        Person second = new PersonBuilder(BOB).withRelationship("Cousin").withTags("family").build();
+
+        assertSame(first.getRelationship().get(), second.getRelationship().get());
+        assertSame(first.getTags().iterator().next(), second.getTags().iterator().next());
+    }
+
+    @Test
+    public void with_eachField_onlyThatFieldReplaced() {
+        Person person = new PersonBuilder(true).withBirthday("29-02-2000").build();
+
+        assertEquals(new PersonBuilder(person).withName(VALID_NAME_BOB).build(),
+                person.with(Person.Field.NAME, new Name(VALID_NAME_BOB)));
+        assertEquals(new PersonBuilder(person).withPhone(VALID_PHONE_BOB).build(),
+                person.with(Person.Field.PHONE, new Phone(VALID_PHONE_BOB)));
+        assertEquals(new PersonBuilder(person).withTags(VALID_TAG_HUSBAND).build(),
+                person.with(Person.Field.TAGS, Set.of(new Tag(VALID_TAG_HUSBAND))));
+        Person withoutBirthday = person.with(Person.Field.BIRTHDAY, Optional.empty());
+        assertEquals(Optional.empty(), withoutBirthday.getBirthday());
+        assertEquals(person, withoutBirthday.with(Person.Field.BIRTHDAY, person.getBirthday()));
+        for (Person.Field<?> field : Person.Field.ALL) {
+            assertEquals(person, withOwnValue(person, field));
+        }
+        assertThrows(NullPointerException.class, () -> person.with(Person.Field.NAME, null));
+    }
+
+    @Test
+    public void get_eachField_equalsAccessor() {
+        Person person = new PersonBuilder(true).withBirthday("29-02-2000").build();
+
+        assertEquals(person.getName(), person.get(Person.Field.NAME));
+        assertEquals(person.getBirthday(), person.get(Person.Field.BIRTHDAY));
+        assertEquals(person.getRelationship(), person.get(Person.Field.RELATIONSHIP));
+        assertEquals(person.getTags(), person.get(Person.Field.TAGS));
+        assertTrue(Person.Field.NAME.isSameIn(person, new PersonBuilder(person).withPhone(VALID_PHONE_BOB).build()));
+        assertFalse(Person.Field.NAME.isSameIn(person, new PersonBuilder(person).withName(VALID_NAME_BOB).build()));
+    }
+
+    @Test
+    public void accessors_allFieldsPresent_returnEqualValueObjects() {
+        Person person = new PersonBuilder(true).withBirthday("29-02-2000").build();
+
+        assertEquals(new Name(PersonBuilder.DEFAULT_NAME), person.getName());
+        assertEquals(new Phone(PersonBuilder.DEFAULT_PHONE), person.getPhone());
+        assertEquals(new Email(PersonBuilder.DEFAULT_EMAIL), person.getEmail());
+        assertEquals(new Address(PersonBuilder.DEFAULT_ADDRESS), person.getAddress());
+        assertEquals(PersonBuilder.DEFAULT_NAME, person.getNameValue());
+        assertEquals(PersonBuilder.DEFAULT_PHONE, person.getPhoneValue());
+        assertEquals(PersonBuilder.DEFAULT_EMAIL, person.getEmailValue());
+        assertEquals(PersonBuilder.DEFAULT_ADDRESS, person.getAddressValue());
+        assertEquals(Optional.of(new Birthday("29-02-2000")), person.getBirthday());
+        assertEquals("29-02-2000", person.getBirthdayValue());
+        assertEquals(Optional.of(new Relationship(PersonBuilder.DEFAULT_RELATIONSHIP)), person.getRelationship());
+        assertEquals(Optional.of(new Nickname(PersonBuilder.DEFAULT_NICKNAME)), person.getNickname());
+        assertEquals(PersonBuilder.DEFAULT_NICKNAME, person.getNicknameValue());
+        assertEquals(Optional.of(new Notes(PersonBuilder.DEFAULT_NOTES)), person.getNotes());
+        assertEquals(PersonBuilder.DEFAULT_NOTES, person.getNotesValue());
+    }
+
+    @Test
+    public void accessors_optionalFieldsAbsent_returnEmpty() {
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                null, null, null, null, ALICE.getTags());
+
+        assertEquals(Optional.empty(), person.getBirthday());
+        assertEquals("", person.getBirthdayValue());
+        assertEquals(Optional.empty(), person.getRelationship());
+        assertEquals("", person.getRelationshipValue());
+        assertEquals(Optional.empty(), person.getNickname());
+        assertEquals("", person.getNicknameValue());
+        assertEquals(Optional.empty(), person.getNotes());
+        assertEquals("", person.getNotesValue());
+    }
+
+    @Test
+    public void fromTrusted_sameValues_equalsConstructedPerson() {
+        Person person = new PersonBuilder(true).withBirthday("29-02-2000").withTags("family").build();
+        Person trusted = Person.fromTrusted(person.getName().fullName, person.getPhone().value,
+                person.getEmail().value, person.getAddress().value, person.getBirthdayEpochDay(),
+                person.getRelationship().get(), person.getNicknameValue(), person.getNotesValue(), person.getTags());
+        assertEquals(person, trusted);
+
+        Person withoutOptionalFields = Person.fromTrusted(ALICE.getName().fullName, ALICE.getPhone().value,
+                ALICE.getEmail().value, ALICE.getAddress().value, OptionalInt.empty(), null, null, null,
+                ALICE.getTags());
+        assertEquals(new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                null, null, null, null, ALICE.getTags()), withoutOptionalFields);
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -90,6 +187,17 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_equalPersons_equalHashCodes() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+        // cached hash code is unchanged
+        assertEquals(ALICE.hashCode(), ALICE.hashCode());
+
+        Person withOptionalFields = new PersonBuilder(true).build();
+        assertEquals(withOptionalFields.hashCode(), new PersonBuilder(withOptionalFields).build().hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
@@ -98,4 +206,8 @@ public class PersonTest {
                 + ALICE.getNickname() + ", notes=" + ALICE.getNotes() + ", tags=" + ALICE.getTags() + "}";
         assertEquals(expected, ALICE.toString());
     }
+
+    private static <T> Person withOwnValue(Person person, Person.Field<T> field) {
+        return person.with(field, person.get(field));
+    }
 }
@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class SwappableObservableListTest {
+
+    private final SwappableObservableList<Person> list = new SwappableObservableList<>();
+
+    @Test
+    public void swapOut_nonEmptyList_backingListReturnedAndRemovalShownInSingleChange() {
+        list.addAll(List.of(ALICE, BENSON));
+        List<List<Person>> removedPerChange = new ArrayList<>();
+        list.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removedPerChange.add(new ArrayList<>(change.getRemoved()));
+            }
+        });
+
+        List<Person> swappedOut = list.swapOut();
+
+        assertEquals(List.of(ALICE, BENSON), swappedOut);
+        assertTrue(list.isEmpty());
+        assertEquals(List.of(List.of(ALICE, BENSON)), removedPerChange);
+
+        // the list swapped out is no longer used
+        list.add(CARL);
+        assertEquals(List.of(ALICE, BENSON), swappedOut);
+    }
+
+    @Test
+    public void swapIn_replacement_backsList() {
+        list.add(CARL);
+        List<Person> replacement = new ArrayList<>(List.of(ALICE, BENSON));
+
+        list.swapIn(replacement);
+        assertEquals(List.of(ALICE, BENSON), list);
+
+        list.remove(ALICE);
+        assertEquals(List.of(BENSON), replacement);
+    }
+
+    @Test
+    public void clearAndSetAll_contentsReplaced() {
+        list.setAll(List.of(ALICE, BENSON));
+        assertEquals(List.of(ALICE, BENSON), list);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.setAll(List.of(CARL));
+        assertEquals(List.of(CARL), list);
+    }
+}
@@ -7,14 +7,33 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.JOHN;
+import static seedu.address.testutil.TypicalPersons.JON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -47,6 +66,21 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedWithDifferentIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -127,6 +161,222 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_equalPerson_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(new PersonBuilder(ALICE).build());
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void remove_samePersonWithDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersonsInSingleChange() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.removeAll(List.of(BENSON, new PersonBuilder(ELLE).build(), ALICE));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(List.of(CARL, DANIEL, FIONA, GEORGE, JOHN, JON));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(1, changeCount[0]);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_removesNoPerson() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE, BOB)));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(getTypicalPersons());
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void removeAndSetPerson_afterPositionsShift_sameAsList() {
+        Random random = new Random(0);
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            expected.add(person);
+            uniquePersonList.add(person);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            int index = random.nextInt(expected.size());
+            Person person = expected.get(index);
+            switch (expected.size() < 2 ? 1 : random.nextInt(4)) {
+            case 0:
+                uniquePersonList.remove(person);
+                expected.remove(index);
+                break;
+            case 1:
+                for (String name : List.of("Added " + i, "Also added " + i)) {
+                    Person added = new PersonBuilder().withName(name).build();
+                    uniquePersonList.add(added);
+                    expected.add(added);
+                }
+                break;
+            case 2:
+                Person edited = new PersonBuilder(person).withAddress("Block " + i).build();
+                uniquePersonList.setPerson(person, edited);
+                expected.set(index, edited);
+                break;
+            default:
+                List<Person> removed = List.of(person, expected.get(random.nextInt(expected.size())));
+                if (removed.get(0) != removed.get(1)) {
+                    uniquePersonList.removeAll(removed);
+                    expected.removeAll(removed);
+                }
+                break;
+            }
+            assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        }
+    }
+
+    @Test
+    public void commitChanges_removalsOnly_removesPersonsInSingleChange() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        List<List<Person>> removedInChanges = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removedInChanges.add(new ArrayList<>(change.getRemoved()));
+            }
+        });
+
+        uniquePersonList.beginChanges();
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.remove(ELLE);
+        assertFalse(uniquePersonList.contains(BENSON));
+        // not shown before the changes are committed
+        assertEquals(getTypicalPersons(), uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.commitChanges();
+
+        assertEquals(List.of(ALICE, CARL, DANIEL, FIONA, GEORGE, JOHN, JON),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(List.of(BENSON, ELLE)), removedInChanges);
+    }
+
+    @Test
+    public void equalsAndIterator_duringBatch_includeUncommittedChanges() {
+        uniquePersonList.add(ALICE);
+        UniquePersonList expectedList = new UniquePersonList();
+        expectedList.add(ALICE);
+        expectedList.add(BENSON);
+
+        uniquePersonList.beginChanges();
+        uniquePersonList.add(BENSON);
+        assertEquals(expectedList, uniquePersonList);
+        assertEquals(expectedList.hashCode(), uniquePersonList.hashCode());
+        List<Person> iterated = new ArrayList<>();
+        uniquePersonList.forEach(iterated::add);
+        assertEquals(List.of(ALICE, BENSON), iterated);
+        assertThrows(UnsupportedOperationException.class, () -> {
+            Iterator<Person> iterator = uniquePersonList.iterator();
+            iterator.next();
+            iterator.remove();
+        });
+        uniquePersonList.commitChanges();
+    }
+
+    @Test
+    public void commitChanges_additionsOnly_appendsPersonsInSingleChange() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.beginChanges();
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.commitChanges();
+
+        assertEquals(List.of(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void commitChanges_mixedChanges_replacesPersonsInSingleChange() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.beginChanges();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.add(BOB);
+        uniquePersonList.removeAll(List.of(JOHN, BOB));
+        uniquePersonList.commitChanges();
+
+        assertEquals(List.of(BENSON, editedCarl, DANIEL, ELLE, FIONA, GEORGE, JON),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+
+        // positions stay up to date after the batch
+        uniquePersonList.remove(JON);
+        uniquePersonList.setPerson(editedCarl, CARL);
+        assertEquals(List.of(BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void clearAndRestore_nonEmptyList_personsAndIndexesRestored() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        uniquePersonList.remove(BENSON);
+        List<Person> persons = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+
+        PersonListSnapshot snapshot = uniquePersonList.clear();
+        assertEquals(persons.size(), snapshot.size());
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(findByNames("alice").isEmpty());
+        assertTrue(uniquePersonList.getUpcomingBirthdays(LocalDate.of(2024, 1, 1), 1).isEmpty());
+
+        // the persons added and removed while cleared do not reach the snapshot
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.restore(snapshot);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Set.of(ALICE), findByNames("alice"));
+        assertFalse(uniquePersonList.contains(BENSON));
+
+        // positions stay up to date after the restore
+        uniquePersonList.remove(CARL);
+        uniquePersonList.setPerson(JON, BENSON);
+        persons.remove(CARL);
+        persons.set(persons.indexOf(JON), BENSON);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void clearAndRestore_duringBatch_shownAsSingleChangeOnCommit() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.beginChanges();
+        uniquePersonList.remove(ALICE);
+        PersonListSnapshot snapshot = uniquePersonList.clear();
+        assertFalse(uniquePersonList.contains(BENSON));
+        uniquePersonList.restore(snapshot);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.commitChanges();
+
+        assertEquals(List.of(BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE, JOHN, JON, ALICE),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +412,182 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsDuplicateNames() {
+        Person otherBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, otherBob, ALICE);
+        String expectedMessage = new DuplicatePersonException(
+                Arrays.asList(ALICE.getName().fullName, BOB.getName().fullName)).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void find_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.find(null));
+    }
+
+    @Test
+    public void find_matchesPredicate() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, JOHN, JON));
+        List<Map<SearchField, List<String>>> queries = Arrays.asList(
+                Map.of(SearchField.NAME, List.of("meier")),
+                Map.of(SearchField.NAME, List.of("JO", "carl")),
+                Map.of(SearchField.NAME, List.of("")),
+                Map.of(SearchField.NAME, List.of()),
+                Map.of(SearchField.PHONE, List.of("948", "9435")),
+                Map.of(SearchField.EMAIL, List.of("example.com")),
+                Map.of(SearchField.EMAIL, List.of("JOHN")),
+                Map.of(SearchField.ADDRESS, List.of("clementi", "08")),
+                Map.of(SearchField.NICKNAME, List.of("ben")),
+                Map.of(SearchField.NOTES, List.of("peanut")),
+                Map.of(SearchField.TAG, List.of("friends")),
+                Map.of(SearchField.RELATIONSHIP, List.of("neigh")),
+                Map.of(SearchField.TAG, List.of("friends"), SearchField.ADDRESS, List.of("street")),
+                Map.of(SearchField.NAME, List.of("meier"), SearchField.TAG, List.of("owes")),
+                Map.of(SearchField.NAME, List.of("nobody"), SearchField.TAG, List.of("friends")),
+                Map.of());
+        for (Map<SearchField, List<String>> query : queries) {
+            PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(query);
+            Set<Person> expected = new HashSet<>();
+            uniquePersonList.forEach(person -> {
+                if (predicate.test(person)) {
+                    expected.add(person);
+                }
+            });
+            assertEquals(expected, new HashSet<>(uniquePersonList.find(predicate)), query.toString());
+        }
+    }
+
+    @Test
+    public void find_afterModifications_reflectsCurrentPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Pauline").withTags().build();
+        uniquePersonList.setPerson(BENSON, renamedBenson);
+        assertEquals(Set.of(ALICE, renamedBenson), findByNames("pauline"));
+        assertTrue(findByNames("meier").isEmpty());
+        assertTrue(uniquePersonList.find(new PersonContainsKeywordsPredicate(
+                Map.of(SearchField.TAG, List.of("owesmoney")))).isEmpty());
+
+        // removing an equal but distinct instance unindexes the stored one
+        uniquePersonList.remove(new PersonBuilder(ALICE).build());
+        assertEquals(Set.of(renamedBenson), findByNames("pauline"));
+
+        uniquePersonList.setPersons(Collections.singletonList(CARL));
+        assertTrue(findByNames("benson").isEmpty());
+        assertEquals(Set.of(CARL), findByNames("carl"));
+    }
+
+    @Test
+    public void find_repeatedWord_personFoundOnce() {
+        Person repeatedWord = new PersonBuilder().withName("Lee Lee").withEmail("lee@lee.sg").build();
+        uniquePersonList.add(repeatedWord);
+        assertEquals(1, findByNames("lee", "le").size());
+
+        uniquePersonList.remove(repeatedWord);
+        assertTrue(findByNames("lee").isEmpty());
+    }
+
+    @Test
+    public void findSimilar_indexed_sameAsScanningEveryPerson() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        uniquePersonList.add(new PersonBuilder().withName("Alison Tann").withNickname("Ally").build());
+        for (List<String> keywords : List.of(List.of("alise"), List.of("meyer"), List.of("bensen", "meier"),
+                List.of("ally"), List.of("jon"), List.of("xyz"), List.of("tan", "alice"))) {
+            FuzzyNameQuery query = new FuzzyNameQuery(keywords, 3);
+            assertEquals(query.getTopMatches(uniquePersonList.asUnmodifiableObservableList()),
+                    uniquePersonList.findSimilar(query), keywords.toString());
+        }
+    }
+
+    @Test
+    public void findSimilar_afterModifications_reflectsCurrentPersons() {
+        FuzzyNameQuery query = new FuzzyNameQuery(List.of("paulin"));
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Pauline").build();
+        uniquePersonList.setPerson(BENSON, renamedBenson);
+        assertEquals(List.of(ALICE, renamedBenson), uniquePersonList.findSimilar(query));
+        assertTrue(uniquePersonList.findSimilar(new FuzzyNameQuery(List.of("meier"))).isEmpty());
+
+        uniquePersonList.remove(new PersonBuilder(ALICE).build());
+        assertEquals(List.of(renamedBenson), uniquePersonList.findSimilar(query));
+
+        uniquePersonList.setPersons(Collections.singletonList(CARL));
+        assertTrue(uniquePersonList.findSimilar(query).isEmpty());
+        assertEquals(List.of(CARL), uniquePersonList.findSimilar(new FuzzyNameQuery(List.of("karl"))));
+    }
+
+    @Test
+    public void findSimilar_wordsSharingTrigrams_personRemovedOnce() {
+        Person sharedTrigrams = new PersonBuilder().withName("Ann Annie").withNickname("Anna").build();
+        uniquePersonList.add(sharedTrigrams);
+        assertEquals(List.of(sharedTrigrams), uniquePersonList.findSimilar(new FuzzyNameQuery(List.of("anne"))));
+
+        uniquePersonList.remove(sharedTrigrams);
+        assertTrue(uniquePersonList.findSimilar(new FuzzyNameQuery(List.of("anne"))).isEmpty());
+    }
+
+    @Test
+    public void getUpcomingBirthdays_soonestFirst() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        LocalDate today = LocalDate.of(2025, 4, 4);
+        assertEquals(List.of(DANIEL, ELLE, GEORGE), uniquePersonList.getUpcomingBirthdays(today, 3));
+        // persons without birthdays are never upcoming
+        assertEquals(List.of(DANIEL, ELLE, GEORGE, JOHN, BENSON, CARL),
+                uniquePersonList.getUpcomingBirthdays(today, 9));
+        assertTrue(uniquePersonList.getUpcomingBirthdays(today, 0).isEmpty());
+    }
+
+    @Test
+    public void getBirthdaysWithin_birthdaysBeforeLastDay() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        LocalDate today = LocalDate.of(2025, 4, 4);
+        assertEquals(List.of(DANIEL), uniquePersonList.getBirthdaysWithin(today, 31));
+        assertEquals(List.of(DANIEL, ELLE), uniquePersonList.getBirthdaysWithin(today, 32));
+        assertTrue(uniquePersonList.getBirthdaysWithin(today, 0).isEmpty());
+        assertEquals(6, uniquePersonList.getBirthdaysWithin(today, 366).size());
+    }
+
+    @Test
+    public void getUpcomingBirthdays_indexed_sameAsSortingEveryPerson() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        uniquePersonList.add(new PersonBuilder().withName("Leap Day").withBirthday("29-02-2000").build());
+        uniquePersonList.add(new PersonBuilder().withName("Same Day").withBirthday("28-02-1990").build());
+        uniquePersonList.add(new PersonBuilder().withName("Alice Twin").withBirthday("02-02-1991").build());
+        ReadOnlyAddressBook unindexed = uniquePersonList::asUnmodifiableObservableList;
+        for (LocalDate today : List.of(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28),
+                LocalDate.of(2024, 2, 28), LocalDate.of(2024, 3, 1), LocalDate.of(2025, 12, 31))) {
+            for (int count : new int[] {1, 3, 20}) {
+                assertEquals(unindexed.getUpcomingBirthdays(today, count),
+                        uniquePersonList.getUpcomingBirthdays(today, count), today + " " + count);
+                assertEquals(unindexed.getBirthdaysWithin(today, count * 20),
+                        uniquePersonList.getBirthdaysWithin(today, count * 20), today + " " + count);
+            }
+        }
+    }
+
+    @Test
+    public void getUpcomingBirthdays_afterModifications_reflectsCurrentPersons() {
+        LocalDate today = LocalDate.of(2025, 1, 1);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        Person movedBirthday = new PersonBuilder(CARL).withBirthday("01-01-1992").build();
+        uniquePersonList.setPerson(CARL, movedBirthday);
+        assertEquals(List.of(movedBirthday, BENSON), uniquePersonList.getUpcomingBirthdays(today, 5));
+
+        uniquePersonList.remove(new PersonBuilder(BENSON).build());
+        assertEquals(List.of(movedBirthday), uniquePersonList.getUpcomingBirthdays(today, 5));
+
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertTrue(uniquePersonList.getUpcomingBirthdays(today, 5).isEmpty());
+    }
+
+    private Set<Person> findByNames(String... keywords) {
+        return new HashSet<>(uniquePersonList.find(PersonContainsKeywordsPredicate.forNames(Arrays.asList(keywords))));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
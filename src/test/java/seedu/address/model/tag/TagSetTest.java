@@ -0,0 +1,90 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_equalTags_canonicalInstancesShared() {
+        TagSet first = TagSet.of(Set.of(new Tag("friends"), new Tag("family")));
+        TagSet second = TagSet.of(Set.of(new Tag("family")));
+
+        Tag family = second.iterator().next();
+        assertEquals(new Tag("family"), family);
+        assertTrue(first.stream().anyMatch(tag -> tag == family));
+    }
+
+    @Test
+    public void of_sameTags_equalToOtherSets() {
+        Set<Tag> tags = Set.of(new Tag("friends"), new Tag("colleagues"));
+        TagSet tagSet = TagSet.of(tags);
+
+        assertEquals(2, tagSet.size());
+        assertEquals(tags, tagSet);
+        assertEquals(tagSet, tags);
+        assertEquals(tags.hashCode(), tagSet.hashCode());
+        assertEquals(tagSet, TagSet.of(new HashSet<>(tags)));
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertFalse(tagSet.contains(new Tag("neighbours")));
+        assertFalse(tagSet.contains("friends"));
+
+        // different tags
+        assertFalse(tagSet.equals(TagSet.of(Set.of(new Tag("friends")))));
+        assertFalse(tagSet.equals(TagSet.of(Set.of())));
+    }
+
+    @Test
+    public void of_empty_isEmpty() {
+        TagSet tagSet = TagSet.of(List.of());
+        assertTrue(tagSet.isEmpty());
+        assertFalse(tagSet.iterator().hasNext());
+        assertSame(tagSet, TagSet.of(new HashSet<>()));
+    }
+
+    @Test
+    public void of_moreThanOneWordOfTags_allTagsKept() {
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tags.add(new Tag("manyTags" + i));
+        }
+        // only every third tag, so that the set spans several words with gaps
+        Set<Tag> someTags = new HashSet<>();
+        for (int i = 0; i < tags.size(); i += 3) {
+            someTags.add(tags.get(i));
+        }
+        TagSet.of(tags);
+
+        TagSet tagSet = TagSet.of(someTags);
+        assertEquals(someTags.size(), tagSet.size());
+        assertEquals(someTags, new HashSet<>(tagSet));
+        assertTrue(tagSet.contains(tags.get(198)));
+        assertFalse(tagSet.contains(tags.get(199)));
+        assertEquals(tagSet, TagSet.of(new ArrayList<>(someTags)));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Set.of(new Tag("friends")));
+        Tag friends = new Tag("friends");
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(friends));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        Iterator<Tag> iterator = tagSet.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_equalValues_firstInstanceReturned() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("cousin");
+        String second = new String("cousin");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void getId_numberedInOrderOfInterning() {
+        Interner<String> interner = new Interner<>();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, interner.getId("value" + i));
+        }
+        assertEquals(42, interner.getId("value42"));
+        assertEquals("value99", interner.get(99));
+        assertEquals(7, interner.findId("value7"));
+        assertEquals(-1, interner.findId("value100"));
+        assertEquals(100, interner.size());
+    }
+
+    @Test
+    public void getId_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>().getId(null));
+    }
+}
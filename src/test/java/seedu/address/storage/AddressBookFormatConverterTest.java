@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_eachFormat_returnsMatchingStorage() {
+        Path filePath = testFolder.resolve("addressbook");
+        assertTrue(AddressBookFormatConverter.createStorage(filePath, StorageFormat.JSON)
+                instanceof JournaledAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.createStorage(filePath, StorageFormat.BINARY)
+                instanceof BinaryAddressBookStorage);
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        assertFalse(AddressBookFormatConverter.convert(testFolder.resolve("missing.json"), StorageFormat.JSON,
+                testFolder.resolve("target.bin"), StorageFormat.BINARY));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path roundTripPath = testFolder.resolve("roundtrip.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        assertTrue(AddressBookFormatConverter.convert(jsonPath, StorageFormat.JSON,
+                binaryPath, StorageFormat.BINARY));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+
+        assertTrue(AddressBookFormatConverter.convert(binaryPath, StorageFormat.BINARY,
+                roundTripPath, StorageFormat.JSON));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(roundTripPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertToFormat_lastSavedInOtherFormat_converted() throws Exception {
+        Path addressBookFilePath = testFolder.resolve("addressbook.json");
+        new JournaledAddressBookStorage(addressBookFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookFormatConverter.convertToFormat(addressBookFilePath, Optional.of(StorageFormat.JSON),
+                StorageFormat.BINARY));
+        Path binaryPath = StorageFormat.BINARY.getDataFilePath(addressBookFilePath);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+        // the data file converted from is kept
+        assertTrue(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void convertToFormat_lastSavedInSameFormat_notConverted() throws Exception {
+        Path addressBookFilePath = testFolder.resolve("addressbook.json");
+        Path binaryPath = StorageFormat.BINARY.getDataFilePath(addressBookFilePath);
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(new AddressBook());
+        // saved later than the binary data file, but not in the format last saved in
+        new JournaledAddressBookStorage(addressBookFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(AddressBookFormatConverter.convertToFormat(addressBookFilePath,
+                Optional.of(StorageFormat.BINARY), StorageFormat.BINARY));
+        assertEquals(new AddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertToFormat_switchedBackAfterSavesInOtherFormat_latestDataConverted() throws Exception {
+        Path addressBookFilePath = testFolder.resolve("addressbook.json");
+        Path binaryPath = StorageFormat.BINARY.getDataFilePath(addressBookFilePath);
+        AddressBook savedInBinary = getTypicalAddressBook();
+        savedInBinary.removePerson(ALICE);
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(savedInBinary);
+        // older data in JSON, even though its file was written last
+        new JournaledAddressBookStorage(addressBookFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookFormatConverter.convertToFormat(addressBookFilePath, Optional.of(StorageFormat.BINARY),
+                StorageFormat.JSON));
+        assertEquals(savedInBinary,
+                new AddressBook(new JournaledAddressBookStorage(addressBookFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertToFormat_lastSavedFormatNotRecordedAndOnlyOtherFormatSaved_converted() throws Exception {
+        Path addressBookFilePath = testFolder.resolve("addressbook.json");
+        new JournaledAddressBookStorage(addressBookFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookFormatConverter.convertToFormat(addressBookFilePath, Optional.empty(),
+                StorageFormat.BINARY));
+        Path binaryPath = StorageFormat.BINARY.getDataFilePath(addressBookFilePath);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertToFormat_lastSavedFormatNotRecordedAndFormatSaved_notConverted() throws Exception {
+        Path addressBookFilePath = testFolder.resolve("addressbook.json");
+        Path binaryPath = StorageFormat.BINARY.getDataFilePath(addressBookFilePath);
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(new AddressBook());
+        new JournaledAddressBookStorage(addressBookFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(AddressBookFormatConverter.convertToFormat(addressBookFilePath, Optional.empty(),
+                StorageFormat.BINARY));
+        assertFalse(AddressBookFormatConverter.convertToFormat(testFolder.resolve("missing.json"), Optional.empty(),
+                StorageFormat.BINARY));
+        assertEquals(new AddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+    }
+}
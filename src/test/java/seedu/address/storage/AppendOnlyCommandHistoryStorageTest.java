@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyCommandHistory;
+
+public class AppendOnlyCommandHistoryStorageTest {
+    private static final Path LEGACY_HISTORY_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableCommandHistoryTest", "typicalCommandHistory.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.jsonl");
+        assertFalse(new AppendOnlyCommandHistoryStorage(filePath).readCommandHistory().isPresent());
+    }
+
+    @Test
+    public void read_invalidLine_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("invalid.jsonl");
+        Files.writeString(filePath, "\"list\"\n\"unterminated\n");
+        assertThrows(DataLoadingException.class, () ->
+                new AppendOnlyCommandHistoryStorage(filePath).readCommandHistory());
+    }
+
+    @Test
+    public void read_legacyJsonFormat_success() throws Exception {
+        ReadOnlyCommandHistory expected =
+                new JsonCommandHistoryStorage(LEGACY_HISTORY_FILE).readCommandHistory().get();
+        ReadOnlyCommandHistory actual =
+                new AppendOnlyCommandHistoryStorage(LEGACY_HISTORY_FILE).readCommandHistory().get();
+        assertEquals(expected.getCommandHistory(), actual.getCommandHistory());
+    }
+
+    @Test
+    public void readAndSaveCommandHistory_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("history.jsonl");
+        AppendOnlyCommandHistoryStorage storage = new AppendOnlyCommandHistoryStorage(filePath);
+        CommandHistory original = new CommandHistory();
+        original.addCommand("list");
+        original.addCommand("find \"quoted\" name\nwith a line break");
+
+        storage.saveCommandHistory(original);
+        assertEquals(original, new CommandHistory(storage.readCommandHistory().get()));
+
+        // each later command is appended as a single line
+        original.addCommand("help");
+        storage.saveCommandHistory(original);
+        assertEquals(3, Files.readAllLines(filePath).size());
+        assertEquals(original, new CommandHistory(new AppendOnlyCommandHistoryStorage(filePath)
+                .readCommandHistory().get()));
+
+        // a replaced history is rewritten
+        original.setCommands(Arrays.asList("clear"));
+        storage.saveCommandHistory(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new CommandHistory(storage.readCommandHistory().get()));
+    }
+
+    @Test
+    public void saveCommandHistory_logExceedsMaxLines_truncated() throws Exception {
+        Path filePath = testFolder.resolve("history.jsonl");
+        AppendOnlyCommandHistoryStorage storage = new AppendOnlyCommandHistoryStorage(filePath);
+        CommandHistory original = new CommandHistory();
+        for (int i = 0; i < AppendOnlyCommandHistoryStorage.MAX_LOG_LINES; i++) {
+            original.addCommand("command " + i);
+            storage.saveCommandHistory(original);
+        }
+        assertEquals(AppendOnlyCommandHistoryStorage.MAX_LOG_LINES, Files.readAllLines(filePath).size());
+
+        original.addCommand("one more");
+        storage.saveCommandHistory(original);
+        assertEquals(CommandHistory.MAX_HISTORY_SIZE, Files.readAllLines(filePath).size());
+        assertEquals(original, new CommandHistory(storage.readCommandHistory().get()));
+    }
+
+    @Test
+    public void saveCommandHistory_nullCommandHistory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new AppendOnlyCommandHistoryStorage(testFolder.resolve("history.jsonl")).saveCommandHistory(null));
+    }
+}
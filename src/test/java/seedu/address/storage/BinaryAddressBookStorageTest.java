@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("Unused.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("NotBinary.bin");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("Truncated.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinarySerializableAddressBook.MAGIC_NUMBER);
+        out.writeShort(BinarySerializableAddressBook.FORMAT_VERSION + 1);
+        Path filePath = testFolder.resolve("FutureVersion.bin");
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_firstFormatVersion_birthdayReadAsText() throws Exception {
+        Person expected = new PersonBuilder().withBirthday("01-01-1990").withRelationship("Mother")
+                .withTags("friends").build();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinarySerializableAddressBook.MAGIC_NUMBER);
+        out.writeShort(BinarySerializableAddressBook.TEXT_BIRTHDAY_FORMAT_VERSION);
+        writeStrings(out, "friends");
+        writeStrings(out, "Mother");
+        out.writeInt(1);
+        for (String value : new String[] {PersonBuilder.DEFAULT_NAME, PersonBuilder.DEFAULT_PHONE,
+            PersonBuilder.DEFAULT_EMAIL, PersonBuilder.DEFAULT_ADDRESS, "01-01-1990", "", ""}) {
+            writeString(out, value);
+        }
+        out.writeInt(0); // relationship
+        out.writeInt(1); // tag count
+        out.writeInt(0);
+        Path filePath = testFolder.resolve("FirstVersion.bin");
+        Files.write(filePath, bytes.toByteArray());
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(List.of(expected), readBack.getPersonList());
+
+        // trusted once unchanged since saved, and read the same way
+        DataFileChecksum.write(filePath, bytes.toByteArray());
+        readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(List.of(expected), readBack.getPersonList());
+    }
+
+    @Test
+    public void read_invalidPerson_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("InvalidPerson.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        // "Alice Pauline" -> "Alice*Pauline", which is not a valid name
+        byte[] bytes = Files.readAllBytes(filePath);
+        String content = new String(bytes, StandardCharsets.ISO_8859_1);
+        bytes[content.indexOf(ALICE.getName().fullName) + "Alice".length()] = '*';
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unchangedSinceSave_notValidatedAgain() throws Exception {
+        Path filePath = testFolder.resolve("Trusted.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        // "Alice Pauline" -> "Alice*Pauline", with the checksum recorded again as if it was saved like this
+        byte[] bytes = Files.readAllBytes(filePath);
+        String content = new String(bytes, StandardCharsets.ISO_8859_1);
+        bytes[content.indexOf(ALICE.getName().fullName) + "Alice".length()] = '*';
+        Files.write(filePath, bytes);
+        DataFileChecksum.write(filePath, bytes);
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals("Alice*Pauline", readBack.getPersonList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withRelationship("Cousin").withTags().build());
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original); // file path not specified
+        readBack = binaryAddressBookStorage.readAddressBook().get(); // file path not specified
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("SomeFile.bin")).saveAddressBook(null));
+    }
+
+    private static void writeStrings(DataOutputStream out, String... values) throws Exception {
+        out.writeInt(values.length);
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws Exception {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileChecksumTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void matches_unchangedFile_returnsTrue() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        write(file, "saved");
+        assertTrue(DataFileChecksum.matches(file));
+    }
+
+    @Test
+    public void matches_changedFile_returnsFalse() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        write(file, "saved");
+        Files.writeString(file, "edited");
+        assertFalse(DataFileChecksum.matches(file));
+    }
+
+    @Test
+    public void matches_noChecksum_returnsFalse() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        Files.writeString(file, "saved");
+        assertFalse(DataFileChecksum.matches(file));
+    }
+
+    @Test
+    public void matches_corruptedChecksum_returnsFalse() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        write(file, "saved");
+        Files.writeString(DataFileChecksum.getChecksumFilePath(file), "not a checksum");
+        assertFalse(DataFileChecksum.matches(file));
+    }
+
+    @Test
+    public void matches_missingFile_returnsFalse() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        write(file, "saved");
+        Files.delete(file);
+        assertFalse(DataFileChecksum.matches(file));
+    }
+
+    @Test
+    public void matches_contentReadFromFile_comparedWithoutReadingFileAgain() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        write(file, "saved");
+        assertTrue(DataFileChecksum.matches(file, "saved".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(DataFileChecksum.matches(file, "edited".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(DataFileChecksum.matches(testFolder.resolve("other.json"),
+                "saved".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void move_checksumMovedWithFile() throws Exception {
+        Path source = testFolder.resolve("data.json.tmp");
+        Path target = testFolder.resolve("data.json");
+        write(source, "saved");
+        Files.move(source, target);
+
+        DataFileChecksum.move(source, target);
+        assertTrue(DataFileChecksum.matches(target));
+        assertFalse(Files.exists(DataFileChecksum.getChecksumFilePath(source)));
+
+        // nothing to move
+        DataFileChecksum.move(source, target);
+        assertTrue(DataFileChecksum.matches(target));
+    }
+
+    private static void write(Path file, String content) throws Exception {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        Files.write(file, bytes);
+        DataFileChecksum.write(file, bytes);
+    }
+}
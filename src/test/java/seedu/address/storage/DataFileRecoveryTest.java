@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+public class DataFileRecoveryTest {
+
+    private static final String CORRUPTED = "corrupted";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readNewestValid_noTempFile_readsFile() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        assertEquals(Optional.empty(), DataFileRecovery.readNewestValid(file, DataFileRecoveryTest::read));
+
+        Files.writeString(file, "current");
+        assertEquals(Optional.of("current"), DataFileRecovery.readNewestValid(file, DataFileRecoveryTest::read));
+    }
+
+    @Test
+    public void readNewestValid_newerValidTempFile_recoversTempFile() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        Path tempFile = FileUtil.getTempFilePath(file);
+        writeWithAge(file, "old", 2);
+        writeWithAge(tempFile, "new", 1);
+
+        assertEquals(Optional.of("new"), DataFileRecovery.readNewestValid(file, DataFileRecoveryTest::read));
+        assertEquals("new", Files.readString(file));
+        assertFalse(Files.exists(tempFile));
+    }
+
+    @Test
+    public void readNewestValid_corruptedTempFile_keepsFile() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        Path tempFile = FileUtil.getTempFilePath(file);
+        writeWithAge(file, "old", 2);
+        writeWithAge(tempFile, CORRUPTED, 1);
+
+        assertEquals(Optional.of("old"), DataFileRecovery.readNewestValid(file, DataFileRecoveryTest::read));
+        assertEquals("old", Files.readString(file));
+        assertFalse(Files.exists(tempFile));
+    }
+
+    @Test
+    public void readNewestValid_onlyTempFile_recoversTempFile() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        Files.writeString(FileUtil.getTempFilePath(file), "new");
+
+        assertEquals(Optional.of("new"), DataFileRecovery.readNewestValid(file, DataFileRecoveryTest::read));
+        assertEquals("new", Files.readString(file));
+    }
+
+    @Test
+    public void readNewestValid_noValidFile_throwsDataLoadingException() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        writeWithAge(file, CORRUPTED, 2);
+        writeWithAge(FileUtil.getTempFilePath(file), CORRUPTED, 1);
+
+        assertThrows(DataLoadingException.class, () -> DataFileRecovery.readNewestValid(file,
+                DataFileRecoveryTest::read));
+    }
+
+    private static Optional<String> read(Path file) throws DataLoadingException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            String content = Files.readString(file);
+            if (content.equals(CORRUPTED)) {
+                throw new DataLoadingException(new IllegalValueException(CORRUPTED));
+            }
+            return Optional.of(content);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static void writeWithAge(Path file, String content, int ageInMinutes) throws Exception {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - ageInMinutes * 60_000L));
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        // First save writes a snapshot only
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        String snapshot = Files.readString(filePath);
+
+        // Later saves append to the journal and leave the snapshot untouched
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+
+        // A fresh storage replays the journal on top of the snapshot
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_exceedsCompactionThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertTrue(DataFileChecksum.matches(filePath));
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_journalRefersToMissingPerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.writeString(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"operation\":\"DELETE\",\"target\":\"Nobody Here\"}\n");
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastJournalEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // a crash in the middle of an append leaves a partial entry behind
+        Files.writeString(JournaledAddressBookStorage.getJournalFilePath(filePath), "{\"operation\":\"DEL",
+                StandardOpenOption.APPEND);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_compactionInterrupted_snapshotAndJournalUsed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path snapshotTempPath = FileUtil.getTempFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // a crash after writing the new snapshot but before deleting the journal
+        AddressBook compacted = new AddressBook(original);
+        compacted.addPerson(IDA);
+        new JsonAddressBookStorage(snapshotTempPath).saveAddressBook(compacted);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertFalse(Files.exists(snapshotTempPath));
+    }
+
+    @Test
+    public void saveAddressBook_journalAppendFails_nextSaveCompacts() throws Exception {
+        Path filePath = testFolder.resolve("appendFails.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // a directory in place of the journal makes the append fail
+        Files.createDirectory(journalPath);
+        original.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(original));
+        Files.delete(journalPath);
+
+        // the journal may hold only some of the failed entries, so they are not appended on top of it again
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void diff_renameInPlace_replaysToNewList() throws Exception {
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Renamed").build();
+        List<Person> oldPersons = Arrays.asList(ALICE, BENSON, CARL);
+        List<Person> newPersons = Arrays.asList(ALICE, renamedBenson, CARL, HOON);
+
+        List<JsonAdaptedJournalEntry> entries = JournaledAddressBookStorage.diff(oldPersons, newPersons);
+        assertEquals(2, entries.size());
+        assertEquals(newPersons, JournaledAddressBookStorage.replay(oldPersons, entries));
+    }
+
+    @Test
+    public void diff_reorderedList_returnsNull() {
+        assertNull(JournaledAddressBookStorage.diff(Arrays.asList(ALICE, BENSON), Arrays.asList(BENSON, ALICE)));
+    }
+}
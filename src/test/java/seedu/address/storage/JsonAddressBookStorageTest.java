@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +89,32 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_unchangedSinceSave_notValidatedAgain() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        // a phone number that is too short is not valid, but a file with a matching checksum is trusted as is
+        byte[] content = ("{ \"persons\": [ { \"name\": \"Alice Pauline\", \"phone\": \"12\", "
+                + "\"email\": \"alice@example.com\", \"address\": \"123, Jurong West Ave 6\" } ] }")
+                .getBytes(StandardCharsets.UTF_8);
+        Files.write(filePath, content);
+        DataFileChecksum.write(filePath, content);
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals("12", readBack.getPersonList().get(0).getPhone().value);
+    }
+
+    @Test
+    public void readAddressBook_editedSinceSave_validated() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(DataFileChecksum.getChecksumFilePath(filePath)));
+
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.replace(ALICE.getPhone().value, "12"));
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
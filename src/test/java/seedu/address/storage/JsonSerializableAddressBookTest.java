@@ -3,10 +3,14 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
@@ -15,6 +19,9 @@ import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
 
+    @TempDir
+    public Path testFolder;
+
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
@@ -40,8 +47,51 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, "Alice Pauline"),
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(),
+                    new AddressBook(JsonSerializableAddressBook.readModelType(parser)));
+        }
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class,
+                    String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, "Alice Pauline"), () ->
+                    JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_unknownFieldsAndNoPersons_returnsEmptyAddressBook() throws Exception {
+        Path file = testFolder.resolve("noPersons.json");
+        Files.writeString(file, "{ \"version\": { \"major\": 1 }, \"tags\": [ \"friends\" ] }");
+        try (JsonParser parser = JsonUtil.createJsonParser(file)) {
+            assertEquals(new AddressBook(), new AddressBook(JsonSerializableAddressBook.readModelType(parser)));
+        }
+    }
+
+    @Test
+    public void readModelType_rootIsNotObject_throwsIllegalValueException() throws Exception {
+        Path file = testFolder.resolve("array.json");
+        Files.writeString(file, "[ ]");
+        try (JsonParser parser = JsonUtil.createJsonParser(file)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_NOT_AN_ADDRESS_BOOK, () ->
+                    JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
 }
@@ -1,9 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -63,6 +67,41 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedSinceLastSave_notWritten() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        Files.delete(filePath);
+
+        // nothing changed, so the file is not written again
+        storageManager.saveAddressBook(addressBook);
+        assertFalse(Files.exists(filePath));
+
+        // an equal but different address book may have been modified elsewhere, so it is written
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(filePath));
+
+        Files.delete(filePath);
+        addressBook.removePerson(ALICE);
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveCommandHistory_unchangedSinceLastSave_notWritten() throws Exception {
+        Path filePath = getTempFilePath("command");
+        CommandHistory commandHistory = new CommandHistory();
+        storageManager.saveCommandHistory(commandHistory);
+        Files.delete(filePath);
+        storageManager.saveCommandHistory(commandHistory);
+        assertFalse(Files.exists(filePath));
+
+        commandHistory.addCommand("list");
+        storageManager.saveCommandHistory(commandHistory);
+        assertTrue(Files.exists(filePath));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.PersonChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDelta;
+import seedu.address.testutil.PersonBuilder;
+
+public class UndoHistoryStorageTest {
+
+    private static final PersonChange ADD_ALICE = PersonChange.added(ALICE);
+    private static final PersonChange EDIT_BENSON = PersonChange.edited(PersonDelta.between(BENSON,
+            new PersonBuilder(BENSON).withPhone(VALID_PHONE_BOB).withNotes("Likes tea").build()));
+    private static final PersonChange DELETE_BENSON_CARL = PersonChange.deleted(List.of(BENSON, CARL));
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getUndoHistoryFilePath_addressBookFilePath_nextToIt() {
+        Path addressBookFilePath = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("addressbook.json" + UndoHistoryStorage.FILE_SUFFIX),
+                UndoHistoryStorage.getUndoHistoryFilePath(addressBookFilePath));
+    }
+
+    @Test
+    public void read_missingFile_nothingToUndoOrRedo() throws Exception {
+        UndoHistoryStorage storage = new UndoHistoryStorage(testFolder.resolve("missing.undo"));
+        storage.read();
+        assertTrue(storage.getUndoableChanges().isEmpty());
+        assertTrue(storage.getRedoableChanges().isEmpty());
+    }
+
+    @Test
+    public void read_unknownStep_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("invalid.undo");
+        Files.writeString(filePath, "U\nX\n");
+        UndoHistoryStorage storage = new UndoHistoryStorage(filePath);
+        assertThrows(DataLoadingException.class, storage::read);
+        assertTrue(storage.getUndoableChanges().isEmpty());
+
+        // the unreadable log is replaced on the next save
+        storage.push(Optional.of(ADD_ALICE));
+        storage.save();
+        assertEquals(List.of(ADD_ALICE), readUndoableChanges(filePath));
+    }
+
+    @Test
+    public void saveAndRead_pushesUndosAndRedos_sameChanges() throws Exception {
+        Path filePath = testFolder.resolve("history.undo");
+        UndoHistoryStorage storage = new UndoHistoryStorage(filePath);
+        storage.push(Optional.of(ADD_ALICE));
+        storage.push(Optional.of(EDIT_BENSON));
+        storage.push(Optional.of(DELETE_BENSON_CARL));
+        storage.undo();
+        storage.save();
+        assertEquals(List.of(EDIT_BENSON, ADD_ALICE), readUndoableChanges(filePath));
+        assertEquals(List.of(DELETE_BENSON_CARL), readRedoableChanges(filePath));
+
+        // the new log has a line per command kept, and each later step is appended as a single line
+        assertEquals(3, Files.readAllLines(filePath).size());
+        storage.undo();
+        storage.redo();
+        storage.save();
+        assertEquals(5, Files.readAllLines(filePath).size());
+        assertEquals(List.of(EDIT_BENSON, ADD_ALICE), readUndoableChanges(filePath));
+
+        storage.clearRedo();
+        storage.save();
+        assertEquals(List.of(), readRedoableChanges(filePath));
+    }
+
+    @Test
+    public void save_editChange_keepsOnlyChangedFieldsOfOriginal() throws Exception {
+        Path filePath = testFolder.resolve("history.undo");
+        UndoHistoryStorage storage = new UndoHistoryStorage(filePath);
+        storage.push(Optional.of(EDIT_BENSON));
+        storage.save();
+
+        String line = Files.readAllLines(filePath).get(0);
+        assertTrue(line.contains("\"original\":{\"phone\":\"" + BENSON.getPhone().value
+                + "\",\"notes\":\"" + BENSON.getNotesValue() + "\""));
+        assertEquals(1, line.split(BENSON.getEmail().value, -1).length - 1);
+    }
+
+    @Test
+    public void read_tornLastLine_discarded() throws Exception {
+        Path filePath = testFolder.resolve("history.undo");
+        UndoHistoryStorage storage = new UndoHistoryStorage(filePath);
+        storage.push(Optional.of(ADD_ALICE));
+        storage.save();
+        Files.writeString(filePath, Files.readString(filePath) + "P {\"kind\":\"ADD\",\"per");
+
+        assertEquals(List.of(ADD_ALICE), readUndoableChanges(filePath));
+    }
+
+    @Test
+    public void read_commandWithoutChange_olderCommandsNotRestored() throws Exception {
+        Path filePath = testFolder.resolve("history.undo");
+        UndoHistoryStorage storage = new UndoHistoryStorage(filePath);
+        storage.push(Optional.of(ADD_ALICE));
+        storage.push(Optional.empty());
+        storage.push(Optional.of(EDIT_BENSON));
+        storage.save();
+
+        assertEquals(List.of(EDIT_BENSON), readUndoableChanges(filePath));
+    }
+
+    @Test
+    public void read_invalidChange_onlyThrowsWhenLoaded() throws Exception {
+        Path filePath = testFolder.resolve("history.undo");
+        Files.writeString(filePath, "P {\"kind\":\"ADD\",\"persons\":[]}\n");
+        UndoHistoryStorage storage = new UndoHistoryStorage(filePath);
+        storage.read();
+
+        StoredPersonChange change = storage.getUndoableChanges().get(0);
+        assertThrows(DataLoadingException.class, change::load);
+    }
+
+    @Test
+    public void save_logExceedsMaxLines_rewritten() throws Exception {
+        Path filePath = testFolder.resolve("history.undo");
+        UndoHistoryStorage storage = new UndoHistoryStorage(filePath);
+        storage.setCapacity(2);
+        storage.push(Optional.of(ADD_ALICE));
+        storage.push(Optional.of(EDIT_BENSON));
+        storage.undo();
+        for (int i = 0; i < 2 * UndoHistoryStorage.MAX_LINES_PER_COMMAND; i++) {
+            storage.redo();
+            storage.undo();
+            storage.save();
+        }
+        assertFalse(Files.readAllLines(filePath).size() > 2 * UndoHistoryStorage.MAX_LINES_PER_COMMAND);
+
+        // the commands beyond the capacity are dropped, oldest first
+        storage.push(Optional.of(DELETE_BENSON_CARL));
+        storage.push(Optional.of(EDIT_BENSON));
+        storage.save();
+        UndoHistoryStorage readStorage = new UndoHistoryStorage(filePath);
+        readStorage.setCapacity(2);
+        readStorage.read();
+        assertEquals(List.of(EDIT_BENSON, DELETE_BENSON_CARL), load(readStorage.getUndoableChanges()));
+        assertEquals(List.of(EDIT_BENSON), load(readStorage.getRedoableChanges()));
+    }
+
+    @Test
+    public void save_afterClear_logEmptied() throws Exception {
+        Path filePath = testFolder.resolve("history.undo");
+        UndoHistoryStorage storage = new UndoHistoryStorage(filePath);
+        storage.push(Optional.of(ADD_ALICE));
+        storage.save();
+        storage.clear();
+        storage.save();
+
+        assertEquals(List.of(), readUndoableChanges(filePath));
+        assertEquals(List.of(), Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void load_deletedPersons_sameOrder() throws Exception {
+        Path filePath = testFolder.resolve("history.undo");
+        UndoHistoryStorage storage = new UndoHistoryStorage(filePath);
+        Person editedCarl = new PersonBuilder(CARL).withTags().build();
+        PersonChange change = PersonChange.deleted(List.of(editedCarl, ALICE));
+        storage.push(Optional.of(change));
+        storage.save();
+
+        assertEquals(List.of(change), readUndoableChanges(filePath));
+    }
+
+    private static List<PersonChange> readUndoableChanges(Path filePath) throws DataLoadingException {
+        UndoHistoryStorage storage = new UndoHistoryStorage(filePath);
+        storage.read();
+        return load(storage.getUndoableChanges());
+    }
+
+    private static List<PersonChange> readRedoableChanges(Path filePath) throws DataLoadingException {
+        UndoHistoryStorage storage = new UndoHistoryStorage(filePath);
+        storage.read();
+        return load(storage.getRedoableChanges());
+    }
+
+    private static List<PersonChange> load(List<StoredPersonChange> storedChanges) throws DataLoadingException {
+        List<PersonChange> changes = new ArrayList<>();
+        for (StoredPersonChange storedChange : storedChanges) {
+            changes.add(storedChange.load());
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.PersonChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    private static final long NEVER_MILLIS = 60 * 60 * 1000;
+
+    @TempDir
+    public Path testFolder;
+
+    private CountingStorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() {
+        storageManager = new CountingStorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonCommandHistoryStorage(testFolder.resolve("command")));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalescedIntoOneWrite() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, NEVER_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, storageManager.addressBookSaves.get());
+
+        storage.flush();
+        assertEquals(1, storageManager.addressBookSaves.get());
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_notFlushed_writtenWithinMaxDelay() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, 10);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveCommandHistory(new CommandHistory());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (storageManager.addressBookSaves.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, storageManager.addressBookSaves.get());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedSinceLastSave_notWrittenAgain() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, NEVER_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        assertEquals(1, storageManager.addressBookSaves.get());
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_savedDataUnchanged() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, NEVER_MILLIS);
+        AddressBook original = getTypicalAddressBook();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+
+        storage.flush();
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_pendingSave_readsSavedData() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, NEVER_MILLIS);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_backgroundWriteFails_throwsAndRetriesOnNextFlush() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, NEVER_MILLIS);
+        AddressBook original = getTypicalAddressBook();
+        storageManager.failuresLeft.set(1);
+        storage.saveAddressBook(original);
+
+        assertThrows(IOException.class, storage::flush);
+        storage.flush();
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteFails_retriedWithoutFurtherSaves() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, 10);
+        storageManager.failuresLeft.set(2);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (storageManager.addressBookSaves.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, storageManager.addressBookSaves.get());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_previousBackgroundWriteFailed_throwsIoException() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, 0);
+        storageManager.failuresLeft.set(1);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook(); // waits for the background write to fail
+
+        // the failed write is reported once, and the newer data is still written
+        assertThrows(IOException.class, () -> storage.saveAddressBook(new AddressBook()));
+        storage.flush();
+        assertEquals(new AddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveUndoHistory_addressBookWriteFails_heldBackUntilAddressBookWritten() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, NEVER_MILLIS);
+        Path undoHistoryFilePath = testFolder.resolve("ab.undo");
+        UndoHistoryStorage undoHistory = new UndoHistoryStorage(undoHistoryFilePath);
+        storageManager.failuresLeft.set(1);
+        storage.saveAddressBook(getTypicalAddressBook());
+        undoHistory.push(Optional.of(PersonChange.added(ALICE)));
+        storage.saveUndoHistory(undoHistory);
+
+        assertThrows(IOException.class, storage::flush);
+        assertFalse(Files.exists(undoHistoryFilePath));
+
+        storage.flush();
+        UndoHistoryStorage readUndoHistory = new UndoHistoryStorage(undoHistoryFilePath);
+        readUndoHistory.read();
+        assertEquals(PersonChange.added(ALICE), readUndoHistory.getUndoableChanges().get(0).load());
+    }
+
+    @Test
+    public void saveUndoHistory_writeFails_rewrittenAsWholeOnRetry() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, NEVER_MILLIS);
+        Path undoHistoryFilePath = testFolder.resolve("ab.undo");
+        UndoHistoryStorage undoHistory = new UndoHistoryStorage(undoHistoryFilePath);
+        undoHistory.push(Optional.of(PersonChange.added(ALICE)));
+        storage.saveUndoHistory(undoHistory);
+        storage.flush();
+
+        // a directory in place of the undo history makes appending to it fail
+        Files.delete(undoHistoryFilePath);
+        Files.createDirectories(undoHistoryFilePath.resolve("blocked"));
+        undoHistory.push(Optional.of(PersonChange.added(HOON)));
+        storage.saveUndoHistory(undoHistory);
+        assertThrows(IOException.class, storage::flush);
+
+        // retried without further saves, rewriting both commands rather than appending the second one
+        Files.delete(undoHistoryFilePath.resolve("blocked"));
+        Files.delete(undoHistoryFilePath);
+        storage.flush();
+        UndoHistoryStorage readUndoHistory = new UndoHistoryStorage(undoHistoryFilePath);
+        readUndoHistory.read();
+        assertEquals(2, readUndoHistory.getUndoableChanges().size());
+        assertEquals(PersonChange.added(HOON), readUndoHistory.getUndoableChanges().get(0).load());
+        assertEquals(PersonChange.added(ALICE), readUndoHistory.getUndoableChanges().get(1).load());
+    }
+
+    /**
+     * A {@code StorageManager} that counts address book saves and can be made to fail them.
+     */
+    private static class CountingStorageManager extends StorageManager {
+        private final AtomicInteger addressBookSaves = new AtomicInteger();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+
+        CountingStorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                CommandHistoryStorage commandHistoryStorage) {
+            super(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failuresLeft.get() > 0) {
+                failuresLeft.decrementAndGet();
+                throw new IOException("dummy write failure");
+            }
+            super.saveAddressBook(addressBook, filePath);
+            addressBookSaves.incrementAndGet();
+        }
+    }
+}